@@ -0,0 +1,71 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.Agg;
+import org.jooq.lambda.Seq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the ordered set and statistical aggregate functions of
+ * {@link Agg}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AggBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    int size;
+
+    List<Double> list;
+
+    @Setup
+    public void setup() {
+        list = Seq.range(0, size).map(i -> (double) ((i * 31) % size)).toList();
+    }
+
+    @Benchmark
+    public Optional<Double> percentile() {
+        return Seq.seq(list).collect(Agg.percentile(0.9));
+    }
+
+    @Benchmark
+    public Optional<Double> median() {
+        return Seq.seq(list).collect(Agg.median());
+    }
+
+    @Benchmark
+    public Optional<Double> stddev() {
+        return Seq.seq(list).collect(Agg.stddevDouble());
+    }
+
+    @Benchmark
+    public Optional<Double> mode() {
+        return Seq.seq(list).map(d -> d % 10).collect(Agg.mode());
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jooq.lambda.Async;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for 10-stage chains of {@link Async} stages compared to plain
+ * <code>CompletableFuture</code> chains. Run with <code>-prof gc</code> to
+ * compare the allocation per chain of both jOOλ variants.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AsyncBenchmark {
+
+    final Executor                    direct = Runnable::run;
+    final Function<Integer, Integer>  inc    = i -> i + 1;
+
+    @Benchmark
+    public Integer completableFutureChain() {
+        CompletableFuture<Integer> stage = CompletableFuture.supplyAsync(() -> 0, direct);
+        for (int i = 0; i < 10; i++)
+            stage = stage.thenApply(inc);
+
+        return stage.join();
+    }
+
+    @Benchmark
+    public Integer asyncChain() {
+        CompletionStage<Integer> stage = Async.supplyAsync(() -> 0, direct);
+        for (int i = 0; i < 10; i++)
+            stage = stage.thenApply(inc);
+
+        return stage.toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Integer asyncChainAsync() {
+        CompletionStage<Integer> stage = Async.supplyAsync(() -> 0, direct);
+        for (int i = 0; i < 10; i++)
+            stage = stage.thenApplyAsync(inc);
+
+        return stage.toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Integer asyncChainIncomplete() {
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        CompletionStage<Integer> stage = Async.supplyAsync(() -> 0, direct).thenCompose(i -> first);
+        for (int i = 0; i < 10; i++)
+            stage = stage.thenApply(inc);
+
+        first.complete(0);
+        return stage.toCompletableFuture().join();
+    }
+}
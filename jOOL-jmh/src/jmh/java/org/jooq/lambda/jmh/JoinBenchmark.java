@@ -0,0 +1,68 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.Seq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the join operators of {@link Seq}, which buffer the right
+ * hand side and are quadratic in the input sizes.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JoinBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int size;
+
+    List<Integer> left;
+    List<Integer> right;
+
+    @Setup
+    public void setup() {
+        left = Seq.range(0, size).toList();
+        right = Seq.range(0, size).map(i -> i * 2).toList();
+    }
+
+    @Benchmark
+    public void innerJoin(Blackhole bh) {
+        Seq.seq(left).innerJoin(right, Objects::equals).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void leftOuterJoin(Blackhole bh) {
+        Seq.seq(left).leftOuterJoin(right, Objects::equals).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void crossJoin(Blackhole bh) {
+        Seq.seq(left).crossJoin(right).forEach(bh::consume);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import static org.jooq.lambda.tuple.Tuple.tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.Seq;
+import org.jooq.lambda.tuple.Tuple2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the buffering and indexing operators of {@link Seq}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SeqBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    int size;
+
+    List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = Seq.range(0, size).toList();
+    }
+
+    @Benchmark
+    public void zipWithIndex(Blackhole bh) {
+        Seq.seq(list).zipWithIndex().forEach(bh::consume);
+    }
+
+    @Benchmark
+    public long duplicate() {
+        Tuple2<Seq<Integer>, Seq<Integer>> t = Seq.seq(list).duplicate();
+        return t.v1.count() + t.v2.count();
+    }
+
+    @Benchmark
+    public void duplicateInterleaved(Blackhole bh) {
+        Tuple2<Seq<Integer>, Seq<Integer>> t = Seq.seq(list).duplicate();
+        t.v1.zip(t.v2).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void grouped(Blackhole bh) {
+        Seq.seq(list).grouped(i -> i % 10).forEach(g -> g.v2.forEach(bh::consume));
+    }
+
+    @Benchmark
+    public Map<Tuple2<Integer, Integer>, List<Integer>> groupByTuple() {
+        return Seq.seq(list).groupBy(i -> tuple(i % 10, i % 7));
+    }
+
+    @Benchmark
+    public List<Integer> reverse() {
+        return Seq.seq(list).reverse().toList();
+    }
+}
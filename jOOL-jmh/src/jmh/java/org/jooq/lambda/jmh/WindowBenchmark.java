@@ -0,0 +1,76 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import static java.util.Comparator.naturalOrder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.Seq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for window functions.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WindowBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    int size;
+
+    List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = Seq.range(0, size).map(i -> (i * 31) % size).toList();
+    }
+
+    @Benchmark
+    public void rowNumber(Blackhole bh) {
+        Seq.seq(list).window().forEach(w -> bh.consume(w.rowNumber()));
+    }
+
+    @Benchmark
+    public void rank(Blackhole bh) {
+        Seq.seq(list).window(naturalOrder()).forEach(w -> bh.consume(w.rank()));
+    }
+
+    @Benchmark
+    public void slidingSum(Blackhole bh) {
+        Seq.seq(list).window(-5, 5).forEach(w -> bh.consume(w.sumInt(i -> i)));
+    }
+
+    @Benchmark
+    public void runningAvg(Blackhole bh) {
+        Seq.seq(list).window(naturalOrder(), Long.MIN_VALUE, 0).forEach(w -> bh.consume(w.avgDouble(i -> i)));
+    }
+
+    @Benchmark
+    public void partitionedMedian(Blackhole bh) {
+        Seq.seq(list).window(i -> i % 10, -2, 2).forEach(w -> bh.consume(w.median()));
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jooq.lambda.Either;
+import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.Wrap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the overhead of the {@link Unchecked} and {@link Wrap}
+ * wrappers compared to a plain function, both on the happy path and when
+ * the wrapped function fails.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WrapperBenchmark {
+
+    int value = 42;
+
+    final Function<Integer, Integer> plain = i -> i + 1;
+    final Function<Integer, Integer> unchecked = Unchecked.function(i -> i + 1);
+    final Function<Integer, Either<Integer>> wrapped = Wrap.function(i -> i + 1);
+    final Function<Integer, Integer> uncheckedFailing = Unchecked.function(i -> {
+        throw new Exception("failed " + i);
+    });
+    final Function<Integer, Either<Integer>> wrappedFailing = Wrap.function(i -> {
+        throw new Exception("failed " + i);
+    });
+
+    @Benchmark
+    public Integer plain() {
+        return plain.apply(value);
+    }
+
+    @Benchmark
+    public Integer unchecked() {
+        return unchecked.apply(value);
+    }
+
+    @Benchmark
+    public Either<Integer> wrap() {
+        return wrapped.apply(value);
+    }
+
+    @Benchmark
+    public Object uncheckedFailing() {
+        try {
+            return uncheckedFailing.apply(value);
+        }
+        catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Either<Integer> wrapFailing() {
+        return wrappedFailing.apply(value);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.Seq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the allocation free variants of {@link Seq} operators,
+ * compared to their tuple allocating counterparts.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReusingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int size;
+
+    List<Integer> list;
+
+    @Setup
+    public void setup() {
+        list = Seq.range(0, size).toList();
+    }
+
+    @Benchmark
+    public void crossJoin(Blackhole bh) {
+        Seq.seq(list).crossJoin(list).forEach(t -> bh.consume(t.v1 + t.v2));
+    }
+
+    @Benchmark
+    public void crossJoinReusing(Blackhole bh) {
+        Seq.seq(list).crossJoinReusing(list).forEach(t -> bh.consume(t.v1 + t.v2));
+    }
+
+    @Benchmark
+    public void zipWithIndex(Blackhole bh) {
+        Seq.seq(list).zipWithIndex().forEach(t -> bh.consume(t.v2));
+    }
+
+    @Benchmark
+    public void zipWithLongIndex(Blackhole bh) {
+        Seq.seq(list).zipWithLongIndex().forEach(t -> bh.consume(t.v2));
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.UncheckedException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the cost of wrapping checked exceptions with and without
+ * filling in the wrapper's stack trace, compared to throwing a preallocated
+ * sentinel.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StacklessExceptionBenchmark {
+
+    static final Exception FAILURE = new Exception("failed");
+    static final UncheckedException SENTINEL = UncheckedException.sentinel("failed");
+
+    int value = 42;
+
+    final Function<Integer, Integer> stackful = Unchecked.function(i -> {
+        throw FAILURE;
+    }, Unchecked.THROWABLE_TO_RUNTIME_EXCEPTION);
+    final Function<Integer, Integer> stackless = Unchecked.function(i -> {
+        throw FAILURE;
+    }, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION);
+    final Function<Integer, Integer> sentinel = Unchecked.function(i -> {
+        throw SENTINEL;
+    }, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION);
+
+    @Benchmark
+    public Object stackful() {
+        try {
+            return stackful.apply(value);
+        }
+        catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object stackless() {
+        try {
+            return stackless.apply(value);
+        }
+        catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object sentinel() {
+        try {
+            return sentinel.apply(value);
+        }
+        catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
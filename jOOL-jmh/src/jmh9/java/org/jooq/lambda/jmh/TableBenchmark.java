@@ -0,0 +1,91 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.Agg;
+import org.jooq.lambda.TableStorage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for high-cardinality <code>COUNT(DISTINCT)</code> and
+ * <code>GROUP BY</code> with boxed <code>HashMap</code>s compared to the
+ * primitive tables on and off the heap. Run with <code>-prof gc</code> to
+ * compare the GC time and allocation rate, e.g.
+ * <code>./gradlew :jool-jmh:jmh -PjmhIncludes=TableBenchmark</code> with
+ * <code>profilers = ['gc']</code>.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableBenchmark {
+
+    @Param({ "1000", "1000000" })
+    int    cardinality;
+
+    long[] keys;
+
+    @Setup
+    public void setup() {
+        keys = new long[2_000_000];
+
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = (i * 0x9E3779B97F4A7C15L) % cardinality;
+    }
+
+    @Benchmark
+    public long countDistinctBoxed() {
+        return java.util.Arrays.stream(keys).boxed().collect(Agg.countDistinctBy(k -> k));
+    }
+
+    @Benchmark
+    public long countDistinctHeap() {
+        return java.util.Arrays.stream(keys).boxed().collect(Agg.countDistinctByLong(k -> k, TableStorage.HEAP));
+    }
+
+    @Benchmark
+    public long countDistinctOffHeap() {
+        return java.util.Arrays.stream(keys).boxed().collect(Agg.countDistinctByLong(k -> k, TableStorage.OFF_HEAP));
+    }
+
+    @Benchmark
+    public Map<Long, Long> countByBoxed() {
+        return java.util.Arrays.stream(keys).boxed().collect(Collectors.groupingBy(k -> k, Collectors.counting()));
+    }
+
+    @Benchmark
+    public Map<Long, Long> countByHeap() {
+        return java.util.Arrays.stream(keys).boxed().collect(Agg.groupingByLong(k -> k, k -> 1L, Long::sum, TableStorage.HEAP));
+    }
+
+    @Benchmark
+    public Map<Long, Long> countByOffHeap() {
+        return java.util.Arrays.stream(keys).boxed().collect(Agg.groupingByLong(k -> k, k -> 1L, Long::sum, TableStorage.OFF_HEAP));
+    }
+}
@@ -1,5 +1,9 @@
 /* [java-9] */
 module org.jooq.jool {
+    requires static java.management;
+    requires static jdk.management;
+    requires static jdk.unsupported;
+
     exports org.jooq.lambda;
     exports org.jooq.lambda.exception;
     exports org.jooq.lambda.fi.lang;
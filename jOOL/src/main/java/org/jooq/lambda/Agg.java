@@ -17,20 +17,25 @@ package org.jooq.lambda;
 
 import org.jooq.lambda.function.Function2;
 import org.jooq.lambda.function.Function3;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
-import java.util.function.BiFunction;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
@@ -40,6 +45,7 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
 import static java.util.Comparator.naturalOrder;
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.counting;
@@ -76,6 +82,93 @@ public class Agg {
         );
     }
 
+    /**
+     * Get a {@link Collector} that groups by an <code>int</code> key, like
+     * {@link java.util.stream.Collectors#groupingBy(Function, Collector)},
+     * without boxing keys or allocating map entries per element.
+     */
+    public static <T, A, D> Collector<T, ?, Map<Integer, D>> groupingByInt(ToIntFunction<? super T> classifier, Collector<? super T, A, D> downstream) {
+        Function<A, D> finisher = downstream.finisher();
+
+        return collectingAndThen(
+            groupingByLong0(classifier::applyAsInt, downstream),
+            m -> {
+                Map<Integer, D> result = new HashMap<>(m.size() * 2);
+                m.forEach((a, k) -> result.put((int) k, finisher.apply(a)));
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Get a {@link Collector} that groups by a <code>long</code> key, like
+     * {@link java.util.stream.Collectors#groupingBy(Function, Collector)},
+     * without boxing keys or allocating map entries per element.
+     */
+    public static <T, A, D> Collector<T, ?, Map<Long, D>> groupingByLong(ToLongFunction<? super T> classifier, Collector<? super T, A, D> downstream) {
+        Function<A, D> finisher = downstream.finisher();
+
+        return collectingAndThen(
+            groupingByLong0(classifier, downstream),
+            m -> {
+                Map<Long, D> result = new HashMap<>(m.size() * 2);
+                m.forEach((a, k) -> result.put(k, finisher.apply(a)));
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Get a {@link Collector} that groups by a <code>long</code> key and
+     * reduces a <code>long</code> value per group, keeping both in a primitive
+     * hash table with the given storage, e.g. to count per key:
+     * <p>
+     * <code><pre>
+     * groupingByLong(Order::customerId, o -&gt; 1L, Long::sum, TableStorage.OFF_HEAP)
+     * </code></pre>
+     */
+    public static <T> Collector<T, ?, Map<Long, Long>> groupingByLong(ToLongFunction<? super T> classifier, ToLongFunction<? super T> mapper, LongBinaryOperator op, TableStorage storage) {
+        return Collector.of(
+            () -> storage.table(),
+            (m, t) -> m.merge(classifier.applyAsLong(t), mapper.applyAsLong(t), op),
+            (m1, m2) -> m1.merge(m2, op),
+            m -> {
+                Map<Long, Long> result = new HashMap<>(m.size() * 2);
+                m.forEach(result::put);
+                m.close();
+                return result;
+            }
+        );
+    }
+
+    /**
+     * The unfinished downstream containers per key. The downstream finisher
+     * is applied when copying them to the resulting {@link Map}, which,
+     * unlike {@link LongObjectHashMap}, accepts <code>null</code> values.
+     */
+    private static <T, A, D> Collector<T, LongObjectHashMap<A>, LongObjectHashMap<A>> groupingByLong0(ToLongFunction<? super T> classifier, Collector<? super T, A, D> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+
+        return Collector.of(
+            LongObjectHashMap::new,
+            (m, t) -> accumulator.accept(m.computeIfAbsent(classifier.applyAsLong(t), k -> supplier.get()), t),
+            (m1, m2) -> {
+                LongObjectHashMap<A> into = m1.size() >= m2.size() ? m1 : m2;
+                LongObjectHashMap<A> from = into == m1 ? m2 : m1;
+
+                from.forEach((a, k) -> {
+                    A existing = into.get(k);
+                    into.put(k, existing == null ? a : into == m1 ? combiner.apply(existing, a) : combiner.apply(a, existing));
+                });
+
+                return into;
+            },
+            Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
     /**
      * Get a {@link Collector} that calculates the <code>FIRST</code> function.
      * <p>
@@ -181,6 +274,43 @@ public class Agg {
         );
     }
 
+    /**
+     * Get a {@link Collector} that calculates the
+     * <code>COUNT (DISTINCT expr)</code> function for an <code>int</code>
+     * expression, without boxing the distinct values.
+     */
+    public static <T> Collector<T, ?, Long> countDistinctByInt(ToIntFunction<? super T> function) {
+        return countDistinctByLong(function::applyAsInt);
+    }
+
+    /**
+     * Get a {@link Collector} that calculates the
+     * <code>COUNT (DISTINCT expr)</code> function for a <code>long</code>
+     * expression, without boxing the distinct values.
+     */
+    public static <T> Collector<T, ?, Long> countDistinctByLong(ToLongFunction<? super T> function) {
+        return countDistinctByLong(function, TableStorage.HEAP);
+    }
+
+    /**
+     * Get a {@link Collector} that calculates the
+     * <code>COUNT (DISTINCT expr)</code> function for a <code>long</code>
+     * expression, keeping the distinct values in a primitive hash set with the
+     * given storage.
+     */
+    public static <T> Collector<T, ?, Long> countDistinctByLong(ToLongFunction<? super T> function, TableStorage storage) {
+        return Collector.of(
+            () -> storage.table(),
+            (m, t) -> m.put(function.applyAsLong(t), 0L),
+            (m1, m2) -> m1.merge(m2, null),
+            m -> {
+                long result = m.size();
+                m.close();
+                return result;
+            }
+        );
+    }
+
     /**
      * Get a {@link Collector} that calculates the <code>SUM()</code> for any
      * type of {@link Number}.
@@ -652,25 +782,30 @@ public class Agg {
      * Get a {@link Collector} that calculates the <code>MODE()</code> function.
      */
     public static <T> Collector<T, ?, Optional<T>> mode() {
-        return mode0(seq -> seq.maxBy(t -> t.v2).map(t -> t.v1));
+        return mode0(seq -> seq.max(comparingLong(t -> t.v2)).map(t -> t.v1));
     }
 
     /**
      * Get a {@link Collector} that calculates the <code>MODE()</code> function.
      */
     public static <T> Collector<T, ?, Seq<T>> modeAll() {
-        return mode0(seq -> seq.maxAllBy(t -> t.v2).map(t -> t.v1));
+        return mode0(seq -> seq.maxAll(comparingLong(t -> t.v2)).map(t -> t.v1));
     }
 
-    private static <T, X> Collector<T, ?, X> mode0(Function<? super Seq<Tuple2<T, Long>>, ? extends X> transformer) {
+    private static <T, X> Collector<T, ?, X> mode0(Function<? super Seq<ObjLongTuple2<T>>, ? extends X> transformer) {
+
+        // Counting in long[] cells avoids boxing a new Long per element
         return Collector.of(
-            () -> new LinkedHashMap<T, Long>(),
-            (m, v) -> m.compute(v, (k1, v1) -> v1 == null ? 1L : v1 + 1L),
+            () -> new LinkedHashMap<T, long[]>(),
+            (m, v) -> m.computeIfAbsent(v, k -> new long[1])[0]++,
             (m1, m2) -> {
-                m1.putAll(m2);
+                m2.forEach((k, v) -> m1.merge(k, v, (c1, c2) -> {
+                    c1[0] += c2[0];
+                    return c1;
+                }));
                 return m1;
             },
-            m -> Seq.seq(m).transform(transformer)
+            m -> Seq.seq(m.entrySet()).map(e -> new ObjLongTuple2<>(e.getKey(), e.getValue()[0])).transform(transformer)
         );
     }
 
@@ -681,6 +816,92 @@ public class Agg {
         return collectingAndThen(modeAllBy(function), Stream::findFirst);
     }
 
+    /**
+     * Get a {@link Collector} that calculates the <code>MODE()</code> function
+     * for an <code>int</code> expression, without boxing the expression values.
+     */
+    public static <T> Collector<T, ?, Optional<T>> modeByInt(ToIntFunction<? super T> function) {
+        return modeByLong(function::applyAsInt);
+    }
+
+    /**
+     * Get a {@link Collector} that calculates the <code>MODE()</code> function
+     * for a <code>long</code> expression, without boxing the expression values.
+     * <p>
+     * Like {@link #modeBy(Function)}, this produces the first value of the
+     * most frequent expression value that was encountered first.
+     */
+    public static <T> Collector<T, ?, Optional<T>> modeByLong(ToLongFunction<? super T> function) {
+        return Collector.of(
+            () -> new ModeState<T>(),
+            (s, t) -> {
+                long key = function.applyAsLong(t);
+                ModeCell<T> cell = s.cells.get(key);
+
+                if (cell == null)
+                    s.cells.put(key, cell = new ModeCell<>(t, s.nextOrder++));
+
+                cell.count++;
+            },
+            (s1, s2) -> {
+
+                // s2's values were encountered after all of s1's values
+                long offset = s1.nextOrder;
+
+                s2.cells.forEach((c2, key) -> {
+                    ModeCell<T> c1 = s1.cells.get(key);
+
+                    if (c1 == null) {
+                        c2.order += offset;
+                        s1.cells.put(key, c2);
+                    }
+                    else
+                        c1.count += c2.count;
+                });
+
+                s1.nextOrder += s2.nextOrder;
+                return s1;
+            },
+            s -> {
+                List<ModeCell<T>> mode = new ArrayList<>(1);
+
+                s.cells.forEach((cell, key) -> {
+                    if (mode.isEmpty())
+                        mode.add(cell);
+                    else if (cell.count > mode.get(0).count || cell.count == mode.get(0).count && cell.order < mode.get(0).order)
+                        mode.set(0, cell);
+                });
+
+                return mode.isEmpty() ? Optional.empty() : Optional.of(mode.get(0).first);
+            }
+        );
+    }
+
+    /**
+     * The cells of all expression values, and the order that the next new
+     * expression value gets. Orders are unique across combined states, as
+     * a combined state's orders are offset by all orders handed out before.
+     */
+    private static final class ModeState<T> {
+        final LongObjectHashMap<ModeCell<T>> cells = new LongObjectHashMap<>();
+        long                                 nextOrder;
+    }
+
+    /**
+     * The first value, the count, and the order of first encounter of an
+     * expression value.
+     */
+    private static final class ModeCell<T> {
+        final T first;
+        long    order;
+        long    count;
+
+        ModeCell(T first, long order) {
+            this.first = first;
+            this.order = order;
+        }
+    }
+
     /**
      * Get a {@link Collector} that calculates the <code>MODE()</code> function.
      */
@@ -1019,13 +1240,16 @@ public class Agg {
                 else if (size == 1)
                     return onSingle.apply(l.get(0).v1);
 
+                Object event = JfrEvents.begin(JfrEvents.AGG);
                 l.sort(comparing(t -> t.v2, comparator));
-                return finisher.apply(l);
+                R result = finisher.apply(l);
+                JfrEvents.commit(event, "percentile", size);
+                return result;
             }
         );
     }
 
-    private static int percentileIndex(double percentile, int size) {
+    static int percentileIndex(double percentile, int size) {
 
         // x.5 should be rounded down
         return (int) -Math.round(-(size * percentile + 0.5)) - 1;
@@ -1070,7 +1294,7 @@ public class Agg {
      * Get a {@link Collector} that calculates the <code>STDDEV_POP()</code> function.
      */
     public static <T> Collector<T, ?, Optional<Double>> stddevDouble(ToDoubleFunction<? super T> function) {
-        return collectingAndThen(toList(), l -> l.isEmpty() ? Optional.empty() : Optional.of(Math.sqrt(variance0(l, function))));
+        return collectingAndThen(moments(function), m -> m.n == 0 ? Optional.empty() : Optional.of(Math.sqrt(m.m2X / m.n)));
     }
 
     /**
@@ -1084,12 +1308,7 @@ public class Agg {
      * Get a {@link Collector} that calculates the <code>VAR_POP()</code> function.
      */
     public static <T> Collector<T, ?, Optional<Double>> varianceDouble(ToDoubleFunction<? super T> function) {
-        return collectingAndThen(toList(), l -> l.isEmpty() ? Optional.empty() : Optional.of(variance0(l, function)));
-    }
-
-    private static <T> double variance0(List<T> l, ToDoubleFunction<? super T> function) {
-        double average = avg0(l, function);
-        return avg0(l, t -> Math.pow(function.applyAsDouble(t) - average, 2));
+        return collectingAndThen(moments(function), m -> m.n == 0 ? Optional.empty() : Optional.of(m.m2X / m.n));
     }
 
     /**
@@ -1103,24 +1322,88 @@ public class Agg {
      * Get a {@link Collector} that calculates the <code>COVAR_POP()</code> function.
      */
     public static <T> Collector<T, ?, Optional<Double>> covarianceDouble(ToDoubleFunction<? super T> functionX, ToDoubleFunction<? super T> functionY) {
-        return collectingAndThen(toList(), covarianceFinisher(functionX, functionY, Agg::avg0));
+        return collectingAndThen(moments(functionX, functionY), m -> m.n == 0 ? Optional.empty() : Optional.of(m.n == 1 ? 0.0 : m.cXY / m.n));
     }
 
-    private static <T> Function<List<T>, Optional<Double>> covarianceFinisher(
-        ToDoubleFunction<? super T> functionX,
-        ToDoubleFunction<? super T> functionY,
-        BiFunction<List<T>, ToDoubleFunction<? super T>, Double> sumOrAvg
-    ) {
-        return l -> {
-            if (l.isEmpty())
-                return Optional.empty();
-            else if (l.size() == 1)
-                return Optional.of(0.0);
+    /**
+     * A {@link Collector} for the online moments of a function, which needs
+     * constant memory instead of buffering all values. Only the X moments are
+     * maintained.
+     */
+    static <T> Collector<T, Moments, Moments> moments(ToDoubleFunction<? super T> function) {
+        return Collector.of(
+            Moments::new,
+            (m, t) -> m.add(function.applyAsDouble(t)),
+            Moments::merge,
+            Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * A {@link Collector} for the online (co-)moments of two functions, which
+     * needs constant memory instead of buffering all values.
+     */
+    static <T> Collector<T, Moments, Moments> moments(ToDoubleFunction<? super T> functionX, ToDoubleFunction<? super T> functionY) {
+        return Collector.of(
+            Moments::new,
+            (m, t) -> m.add(functionX.applyAsDouble(t), functionY.applyAsDouble(t)),
+            Moments::merge,
+            Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Count, means, sums of squared deviations and the sum of the products of
+     * deviations, updated with Welford's algorithm and merged with Chan et
+     * al.'s formulas.
+     */
+    static final class Moments {
+        long   n;
+        double meanX;
+        double meanY;
+        double m2X;
+        double m2Y;
+        double cXY;
+
+        void add(double x) {
+            n++;
+
+            double dx = x - meanX;
+            meanX += dx / n;
+            m2X += dx * (x - meanX);
+        }
+
+        void add(double x, double y) {
+            n++;
 
-            double avgX = avg0(l, functionX);
-            double avgY = avg0(l, functionY);
-            return Optional.of(sumOrAvg.apply(l, t -> (functionX.applyAsDouble(t) - avgX) * (functionY.applyAsDouble(t) - avgY)));
-        };
+            double dx = x - meanX;
+            double dy = y - meanY;
+            meanX += dx / n;
+            meanY += dy / n;
+            m2X += dx * (x - meanX);
+            m2Y += dy * (y - meanY);
+            cXY += dx * (y - meanY);
+        }
+
+        Moments merge(Moments other) {
+            if (other.n == 0)
+                return this;
+            else if (n == 0)
+                return other;
+
+            double total = n + other.n;
+            double dx = other.meanX - meanX;
+            double dy = other.meanY - meanY;
+            double f = n * (double) other.n / total;
+
+            meanX += dx * other.n / total;
+            meanY += dy * other.n / total;
+            m2X += other.m2X + dx * dx * f;
+            m2Y += other.m2Y + dy * dy * f;
+            cXY += other.cXY + dx * dy * f;
+            n += other.n;
+            return this;
+        }
     }
 
     /**
@@ -1224,7 +1507,7 @@ public class Agg {
      */
     public static <T> Collector<T, ?, Optional<Double>> regrSxyDouble(ToDoubleFunction<? super T> functionX, ToDoubleFunction<? super T> functionY) {
         // REGR_SXY() is like COVAR_POP(), but using SUM() instead of AVG() at the end
-        return collectingAndThen(toList(), covarianceFinisher(functionX, functionY, Agg::sum0));
+        return collectingAndThen(moments(functionX, functionY), m -> m.n == 0 ? Optional.empty() : Optional.of(m.n == 1 ? 0.0 : m.cXY));
     }
 
     /**
@@ -1309,56 +1592,139 @@ public class Agg {
         );
     }
 
-    private static <T> double sum0(List<T> list, ToDoubleFunction<? super T> function) {
-        double result = 0.0;
-
-        for (T t : list)
-            result += function.applyAsDouble(t);
-
-        return result;
-    }
-
-    private static <T> double avg0(List<T> list, ToDoubleFunction<? super T> function) {
-        return sum0(list, function) / list.size();
-    }
-
     /**
     * Get a {@link Collector} that calculates the common prefix of a set of strings.
     */
     public static Collector<CharSequence, ?, String> commonPrefix() {
-        return collectingAndThen(
-            reducing((CharSequence s1, CharSequence s2) -> {
-                if (s1 == null || s2 == null)
-                    return "";
+        return commonAffix(false);
+    }
 
-                int l = Math.min(s1.length(), s2.length());
-                int i;
-                for (i = 0; i < l && s1.charAt(i) == s2.charAt(i); i++);
+    /**
+     * Get a {@link Collector} that calculates the common suffix of a set of strings.
+     */
+    public static Collector<CharSequence, ?, String> commonSuffix() {
+        return commonAffix(true);
+    }
 
-                return s1.subSequence(0, i);
-            }),
-            s -> s.map(Objects::toString).orElse("")
+    private static Collector<CharSequence, ?, String> commonAffix(boolean suffix) {
+        return Collector.of(
+            () -> new Affix(suffix),
+            Affix::accept,
+            Affix::combine,
+            Affix::toString
         );
     }
 
     /**
-     * Get a {@link Collector} that calculates the common suffix of a set of strings.
+     * The common prefix or suffix of all strings seen so far, kept as the
+     * characters of the first string and the length of the affix, so that no
+     * intermediate substrings are created.
      */
-    public static Collector<CharSequence, ?, String> commonSuffix() {
-        return collectingAndThen(
-            reducing((CharSequence s1, CharSequence s2) -> {
-                if (s1 == null || s2 == null)
-                    return "";
+    private static final class Affix {
+        final boolean suffix;
+        char[]        chars;
+        int           length;
+
+        Affix(boolean suffix) {
+            this.suffix = suffix;
+        }
+
+        void accept(CharSequence s) {
+
+            // Any null value nullifies the affix
+            if (s == null) {
+                chars = new char[0];
+                length = 0;
+            }
+            else if (chars == null) {
+                length = s.length();
+                chars = new char[length];
 
-                int l1 = s1.length();
-                int l2 = s2.length();
-                int l = Math.min(l1, l2);
+                if (s instanceof String)
+                    ((String) s).getChars(0, length, chars, 0);
+                else
+                    for (int i = 0; i < length; i++)
+                        chars[i] = s.charAt(i);
+            }
+            else if (suffix) {
+                int l = Math.min(length, s.length());
+                int o1 = chars.length - 1;
+                int o2 = s.length() - 1;
+                int i;
+                for (i = 0; i < l && chars[o1 - i] == s.charAt(o2 - i); i++);
+                length = i;
+            }
+            else {
+                int l = Math.min(length, s.length());
                 int i;
-                for (i = 0; i < l && s1.charAt(l1 - i - 1) == s2.charAt(l2 - i - 1); i++);
+                for (i = 0; i < l && chars[i] == s.charAt(i); i++);
+                length = i;
+            }
+        }
 
-                return s1.subSequence(l1 - i, l1);
-            }),
-            s -> s.map(Objects::toString).orElse("")
+        Affix combine(Affix other) {
+            if (other.chars == null)
+                return this;
+            else if (chars == null)
+                return other;
+
+            int l = Math.min(length, other.length);
+            int o1 = chars.length - 1;
+            int o2 = other.chars.length - 1;
+            int i;
+
+            if (suffix)
+                for (i = 0; i < l && chars[o1 - i] == other.chars[o2 - i]; i++);
+            else
+                for (i = 0; i < l && chars[i] == other.chars[i]; i++);
+
+            length = i;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return chars == null
+                 ? ""
+                 : suffix
+                 ? new String(chars, chars.length - length, length)
+                 : new String(chars, 0, length);
+        }
+    }
+
+    /**
+     * Get a {@link Collector} that splits {@link Either} values into their
+     * successful values and their failures in a single pass.
+     */
+    public static <T> Collector<Either<T>, ?, Tuple2<List<T>, List<Throwable>>> successesAndFailures() {
+        return successesAndFailures(toList(), toList());
+    }
+
+    /**
+     * Get a {@link Collector} that splits {@link Either} values into their
+     * successful values and their failures in a single pass, collecting each
+     * side with its own downstream {@link Collector}.
+     */
+    public static <T, A1, D1, A2, D2> Collector<Either<T>, ?, Tuple2<D1, D2>> successesAndFailures(
+        Collector<? super T, A1, D1> successes,
+        Collector<? super Throwable, A2, D2> failures
+    ) {
+        return Collector.<Either<T>, Tuple2<A1, A2>, Tuple2<D1, D2>>of(
+            () -> tuple(successes.supplier().get(), failures.supplier().get()),
+            (a, e) -> {
+                if (e.isSuccess())
+                    successes.accumulator().accept(a.v1, e.v1);
+                else
+                    failures.accumulator().accept(a.v2, e.v2);
+            },
+            (a1, a2) -> tuple(
+                successes.combiner().apply(a1.v1, a2.v1),
+                failures.combiner().apply(a1.v2, a2.v2)
+            ),
+            a -> tuple(
+                successes.finisher().apply(a.v1),
+                failures.finisher().apply(a.v2)
+            )
         );
     }
 
@@ -0,0 +1,1219 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import static java.util.Comparator.naturalOrder;
+import static org.jooq.lambda.tuple.Tuple.tuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import org.jooq.lambda.tuple.Tuple0;
+import org.jooq.lambda.tuple.Tuple1;
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.jooq.lambda.tuple.Tuple4;
+import org.jooq.lambda.tuple.Tuple5;
+import org.jooq.lambda.tuple.Tuple6;
+import org.jooq.lambda.tuple.Tuple7;
+import org.jooq.lambda.tuple.Tuple8;
+
+/**
+ * A builder for several aggregates that are computed in a single pass over
+ * a {@link Collectable}, e.g.
+ * <p>
+ * <code><pre>
+ * // (4, 10.0, Optional[3], 3)
+ * Seq.of(1, 2, 3, 4).aggregate(a -&gt; a
+ *    .count()
+ *    .sumDouble(i -&gt; i)
+ *    .percentile(0.75, Function.identity())
+ *    .countDistinctBy(i -&gt; i % 3));
+ * </code></pre>
+ * <p>
+ * Aggregates share intermediate state where possible. All medians and
+ * percentiles over the same function (instance) and comparator (instance)
+ * are served by a single buffer, which is sorted only once, all distinct
+ * counts over the same function (instance) by a single set, and all counts
+ * by a single counter.
+ *
+ * @author Lukas Eder
+ * @see Collectable#aggregate(Function)
+ */
+public abstract class Aggregation<T, R> {
+
+    private static final Object COUNT = new Object();
+
+    final List<Part<T>> parts;
+
+    Aggregation(List<Part<T>> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * An empty aggregation, to which aggregates can be added.
+     */
+    public static <T> With0<T> of() {
+        return new With0<>(Collections.emptyList());
+    }
+
+    /**
+     * A {@link Collector} computing all aggregates of this aggregation.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public final Collector<T, ?, R> toCollector() {
+        Map<Object, Integer> index = new HashMap<>();
+        List<Collector<T, Object, Object>> resources = new ArrayList<>();
+        int[] resourceOf = new int[parts.size()];
+
+        for (int p = 0; p < resourceOf.length; p++) {
+            Part<T> part = parts.get(p);
+            Integer i = index.get(part.key);
+
+            if (i == null) {
+                index.put(part.key, i = resources.size());
+                resources.add((Collector) part.resource.get());
+            }
+
+            resourceOf[p] = i;
+        }
+
+        int size = resources.size();
+        Supplier<Object>[] suppliers = new Supplier[size];
+        BiConsumer<Object, ? super T>[] accumulators = new BiConsumer[size];
+        BinaryOperator<Object>[] combiners = new BinaryOperator[size];
+        Function<Object, Object>[] finishers = new Function[size];
+
+        for (int i = 0; i < size; i++) {
+            suppliers[i] = resources.get(i).supplier();
+            accumulators[i] = resources.get(i).accumulator();
+            combiners[i] = resources.get(i).combiner();
+            finishers[i] = resources.get(i).finisher();
+        }
+
+        return Collector.<T, Object[], R>of(
+            () -> {
+                Object[] containers = new Object[size];
+
+                for (int i = 0; i < size; i++)
+                    containers[i] = suppliers[i].get();
+
+                return containers;
+            },
+            (c, t) -> {
+                for (int i = 0; i < size; i++)
+                    accumulators[i].accept(c[i], t);
+            },
+            (c1, c2) -> {
+                for (int i = 0; i < size; i++)
+                    c1[i] = combiners[i].apply(c1[i], c2[i]);
+
+                return c1;
+            },
+            c -> {
+                Object[] finished = new Object[size];
+                for (int i = 0; i < size; i++)
+                    finished[i] = finishers[i].apply(c[i]);
+
+                Object[] values = new Object[resourceOf.length];
+                for (int p = 0; p < values.length; p++)
+                    values[p] = parts.get(p).finisher.apply(finished[resourceOf[p]]);
+
+                return result(values);
+            }
+        );
+    }
+
+    abstract R result(Object[] values);
+
+    final List<Part<T>> with(Part<T> part) {
+        List<Part<T>> result = new ArrayList<>(parts.size() + 1);
+        result.addAll(parts);
+        result.add(part);
+        return result;
+    }
+
+    /**
+     * An aggregate: a shared resource (identified by its key), and a
+     * finisher that derives the aggregate from the resource's result.
+     */
+    static final class Part<T> {
+        final Object                               key;
+        final Supplier<Collector<T, ?, ?>>         resource;
+        final Function<Object, Object>             finisher;
+
+        Part(Object key, Supplier<Collector<T, ?, ?>> resource, Function<Object, Object> finisher) {
+            this.key = key;
+            this.resource = resource;
+            this.finisher = finisher;
+        }
+
+        // A collector of ? super T accepts any T
+        @SuppressWarnings("unchecked")
+        static <T> Part<T> of(Collector<? super T, ?, ?> collector) {
+            return new Part<>(new Object(), () -> (Collector<T, ?, ?>) collector, Function.identity());
+        }
+
+        static <T> Part<T> count() {
+            return new Part<>(COUNT, Agg::count, Function.identity());
+        }
+
+        static <T> Part<T> countDistinctBy(Function<? super T, ?> function) {
+            return new Part<>(tuple("distinct", function), () -> Collector.<T, Set<Object>>of(
+                HashSet::new,
+                (s, t) -> s.add(function.apply(t)),
+                (s1, s2) -> {
+                    s1.addAll(s2);
+                    return s1;
+                }
+            ), s -> (long) ((Set<?>) s).size());
+        }
+
+        static <T, U> Part<T> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            if (percentile < 0.0 || percentile > 1.0)
+                throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0");
+
+            return new Part<>(tuple("sorted", function, comparator), () -> Collector.<T, List<U>, List<U>>of(
+                ArrayList::new,
+                (l, t) -> l.add(function.apply(t)),
+                (l1, l2) -> {
+                    l1.addAll(l2);
+                    return l1;
+                },
+                l -> {
+                    if (l.size() > 1) {
+                        Object event = JfrEvents.begin(JfrEvents.AGG);
+                        l.sort(comparator);
+                        JfrEvents.commit(event, "aggregate", l.size());
+                    }
+
+                    return l;
+                }
+            ), l -> {
+                List<?> list = (List<?>) l;
+                int size = list.size();
+
+                if (size == 0)
+                    return Optional.empty();
+                else if (percentile == 0.0)
+                    return Optional.of(list.get(0));
+                else if (percentile == 1.0)
+                    return Optional.of(list.get(size - 1));
+                else
+                    return Optional.of(list.get(Agg.percentileIndex(percentile, size)));
+            });
+        }
+    }
+
+    /**
+     * An aggregation of 0 aggregates.
+     */
+    public static final class With0<T> extends Aggregation<T, Tuple0> {
+
+        With0(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        Tuple0 result(Object[] values) {
+            return new Tuple0();
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With1<T, Long> count() {
+            return new With1<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With1<T, Long> countDistinct() {
+            return new With1<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With1<T, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With1<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With1<T, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With1<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With1<T, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With1<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With1<T, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With1<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With1<T, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With1<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With1<T, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With1<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With1<T, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With1<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With1<T, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With1<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With1<T, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With1<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With1<T, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With1<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With1<T, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With1<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With1<T, Optional<T>> mode() {
+            return new With1<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With1<T, X> collect(Collector<? super T, ?, X> collector) {
+            return new With1<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 1 aggregate.
+     */
+    public static final class With1<T, T1> extends Aggregation<T, Tuple1<T1>> {
+
+        With1(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple1<T1> result(Object[] values) {
+            return new Tuple1<>((T1) values[0]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With2<T, T1, Long> count() {
+            return new With2<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With2<T, T1, Long> countDistinct() {
+            return new With2<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With2<T, T1, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With2<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With2<T, T1, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With2<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With2<T, T1, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With2<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With2<T, T1, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With2<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With2<T, T1, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With2<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With2<T, T1, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With2<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With2<T, T1, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With2<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With2<T, T1, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With2<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With2<T, T1, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With2<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With2<T, T1, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With2<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With2<T, T1, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With2<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With2<T, T1, Optional<T>> mode() {
+            return new With2<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With2<T, T1, X> collect(Collector<? super T, ?, X> collector) {
+            return new With2<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 2 aggregates.
+     */
+    public static final class With2<T, T1, T2> extends Aggregation<T, Tuple2<T1, T2>> {
+
+        With2(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple2<T1, T2> result(Object[] values) {
+            return new Tuple2<>((T1) values[0], (T2) values[1]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With3<T, T1, T2, Long> count() {
+            return new With3<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With3<T, T1, T2, Long> countDistinct() {
+            return new With3<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With3<T, T1, T2, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With3<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With3<T, T1, T2, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With3<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With3<T, T1, T2, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With3<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With3<T, T1, T2, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With3<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With3<T, T1, T2, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With3<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With3<T, T1, T2, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With3<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With3<T, T1, T2, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With3<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With3<T, T1, T2, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With3<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With3<T, T1, T2, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With3<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With3<T, T1, T2, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With3<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With3<T, T1, T2, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With3<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With3<T, T1, T2, Optional<T>> mode() {
+            return new With3<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With3<T, T1, T2, X> collect(Collector<? super T, ?, X> collector) {
+            return new With3<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 3 aggregates.
+     */
+    public static final class With3<T, T1, T2, T3> extends Aggregation<T, Tuple3<T1, T2, T3>> {
+
+        With3(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple3<T1, T2, T3> result(Object[] values) {
+            return new Tuple3<>((T1) values[0], (T2) values[1], (T3) values[2]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With4<T, T1, T2, T3, Long> count() {
+            return new With4<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With4<T, T1, T2, T3, Long> countDistinct() {
+            return new With4<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With4<T, T1, T2, T3, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With4<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With4<T, T1, T2, T3, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With4<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With4<T, T1, T2, T3, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With4<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With4<T, T1, T2, T3, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With4<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With4<T, T1, T2, T3, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With4<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With4<T, T1, T2, T3, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With4<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With4<T, T1, T2, T3, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With4<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With4<T, T1, T2, T3, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With4<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With4<T, T1, T2, T3, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With4<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With4<T, T1, T2, T3, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With4<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With4<T, T1, T2, T3, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With4<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With4<T, T1, T2, T3, Optional<T>> mode() {
+            return new With4<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With4<T, T1, T2, T3, X> collect(Collector<? super T, ?, X> collector) {
+            return new With4<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 4 aggregates.
+     */
+    public static final class With4<T, T1, T2, T3, T4> extends Aggregation<T, Tuple4<T1, T2, T3, T4>> {
+
+        With4(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple4<T1, T2, T3, T4> result(Object[] values) {
+            return new Tuple4<>((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With5<T, T1, T2, T3, T4, Long> count() {
+            return new With5<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With5<T, T1, T2, T3, T4, Long> countDistinct() {
+            return new With5<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With5<T, T1, T2, T3, T4, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With5<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With5<T, T1, T2, T3, T4, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With5<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With5<T, T1, T2, T3, T4, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With5<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With5<T, T1, T2, T3, T4, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With5<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With5<T, T1, T2, T3, T4, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With5<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With5<T, T1, T2, T3, T4, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With5<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With5<T, T1, T2, T3, T4, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With5<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With5<T, T1, T2, T3, T4, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With5<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With5<T, T1, T2, T3, T4, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With5<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With5<T, T1, T2, T3, T4, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With5<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With5<T, T1, T2, T3, T4, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With5<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With5<T, T1, T2, T3, T4, Optional<T>> mode() {
+            return new With5<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With5<T, T1, T2, T3, T4, X> collect(Collector<? super T, ?, X> collector) {
+            return new With5<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 5 aggregates.
+     */
+    public static final class With5<T, T1, T2, T3, T4, T5> extends Aggregation<T, Tuple5<T1, T2, T3, T4, T5>> {
+
+        With5(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple5<T1, T2, T3, T4, T5> result(Object[] values) {
+            return new Tuple5<>((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Long> count() {
+            return new With6<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Long> countDistinct() {
+            return new With6<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With6<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With6<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With6<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With6<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With6<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With6<T, T1, T2, T3, T4, T5, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With6<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With6<T, T1, T2, T3, T4, T5, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With6<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With6<T, T1, T2, T3, T4, T5, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With6<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With6<T, T1, T2, T3, T4, T5, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With6<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With6<T, T1, T2, T3, T4, T5, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With6<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With6<T, T1, T2, T3, T4, T5, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With6<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With6<T, T1, T2, T3, T4, T5, Optional<T>> mode() {
+            return new With6<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With6<T, T1, T2, T3, T4, T5, X> collect(Collector<? super T, ?, X> collector) {
+            return new With6<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 6 aggregates.
+     */
+    public static final class With6<T, T1, T2, T3, T4, T5, T6> extends Aggregation<T, Tuple6<T1, T2, T3, T4, T5, T6>> {
+
+        With6(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple6<T1, T2, T3, T4, T5, T6> result(Object[] values) {
+            return new Tuple6<>((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Long> count() {
+            return new With7<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Long> countDistinct() {
+            return new With7<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With7<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With7<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With7<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With7<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With7<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With7<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With7<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With7<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With7<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With7<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With7<T, T1, T2, T3, T4, T5, T6, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With7<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With7<T, T1, T2, T3, T4, T5, T6, Optional<T>> mode() {
+            return new With7<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With7<T, T1, T2, T3, T4, T5, T6, X> collect(Collector<? super T, ?, X> collector) {
+            return new With7<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 7 aggregates.
+     */
+    public static final class With7<T, T1, T2, T3, T4, T5, T6, T7> extends Aggregation<T, Tuple7<T1, T2, T3, T4, T5, T6, T7>> {
+
+        With7(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple7<T1, T2, T3, T4, T5, T6, T7> result(Object[] values) {
+            return new Tuple7<>((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6]);
+        }
+
+        /**
+         * Add {@link Collectable#count()}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Long> count() {
+            return new With8<>(with(Part.count()));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinct()}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Long> countDistinct() {
+            return new With8<>(with(Part.countDistinctBy(Function.identity())));
+        }
+
+        /**
+         * Add {@link Collectable#countDistinctBy(Function)}. Distinct counts over the same function instance share a set.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Long> countDistinctBy(Function<? super T, ?> function) {
+            return new With8<>(with(Part.countDistinctBy(function)));
+        }
+
+        /**
+         * Add {@link Collectable#sumInt(ToIntFunction)}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Integer> sumInt(ToIntFunction<? super T> function) {
+            return new With8<>(with(Part.of(Collectors.summingInt(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumLong(ToLongFunction)}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Long> sumLong(ToLongFunction<? super T> function) {
+            return new With8<>(with(Part.of(Collectors.summingLong(function))));
+        }
+
+        /**
+         * Add {@link Collectable#sumDouble(ToDoubleFunction)}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Double> sumDouble(ToDoubleFunction<? super T> function) {
+            return new With8<>(with(Part.of(Collectors.summingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#avgDouble(ToDoubleFunction)}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Double> avgDouble(ToDoubleFunction<? super T> function) {
+            return new With8<>(with(Part.of(Collectors.averagingDouble(function))));
+        }
+
+        /**
+         * Add {@link Collectable#min(Function)}.
+         */
+        public <U extends Comparable<? super U>> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> min(Function<? super T, ? extends U> function) {
+            return new With8<>(with(Part.of(Agg.min(function))));
+        }
+
+        /**
+         * Add {@link Collectable#max(Function)}.
+         */
+        public <U extends Comparable<? super U>> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> max(Function<? super T, ? extends U> function) {
+            return new With8<>(with(Part.of(Agg.max(function))));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> median(Function<? super T, ? extends U> function) {
+            return new With8<>(with(Part.percentile(0.5, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#median(Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> median(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With8<>(with(Part.percentile(0.5, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function)}. Medians and percentiles over the same function instance share a sorted buffer.
+         */
+        public <U extends Comparable<? super U>> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function) {
+            return new With8<>(with(Part.percentile(percentile, function, naturalOrder())));
+        }
+
+        /**
+         * Add {@link Collectable#percentile(double, Function, Comparator)}. Medians and percentiles over the same function and comparator instances share a sorted buffer.
+         */
+        public <U> With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<U>> percentile(double percentile, Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
+            return new With8<>(with(Part.percentile(percentile, function, comparator)));
+        }
+
+        /**
+         * Add {@link Collectable#mode()}.
+         */
+        public With8<T, T1, T2, T3, T4, T5, T6, T7, Optional<T>> mode() {
+            return new With8<>(with(Part.of(Agg.mode())));
+        }
+
+        /**
+         * Add any {@link Collector}.
+         */
+        public <X> With8<T, T1, T2, T3, T4, T5, T6, T7, X> collect(Collector<? super T, ?, X> collector) {
+            return new With8<>(with(Part.of(collector)));
+        }
+    }
+
+    /**
+     * An aggregation of 8 aggregates.
+     */
+    public static final class With8<T, T1, T2, T3, T4, T5, T6, T7, T8> extends Aggregation<T, Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> {
+
+        With8(List<Part<T>> parts) {
+            super(parts);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> result(Object[] values) {
+            return new Tuple8<>((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7]);
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package org.jooq.lambda;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 public final class Async {
     private Async() {
@@ -11,18 +28,546 @@ public final class Async {
     }
 
     public static <U> CompletionStage<U> supplyAsync(Supplier<U> supplier) {
-        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(supplier), null);
+        return SameExecutorCompletionStage.supplying(supplier, null);
     }
-    
+
     public static <U> CompletionStage<U> supplyAsync(Supplier<U> supplier, Executor executor) {
-        return SameExecutorCompletionStage.of(CompletableFuture.supplyAsync(supplier, executor), executor);
+        return SameExecutorCompletionStage.supplying(supplier, Objects.requireNonNull(executor, "executor"));
     }
 
     public static CompletionStage<Void> runAsync(Runnable runnable, Executor executor) {
-        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(runnable, executor), executor);
+        return SameExecutorCompletionStage.running(runnable, Objects.requireNonNull(executor, "executor"));
     }
-    
+
     public static CompletionStage<Void> runAsync(Runnable runnable) {
-        return SameExecutorCompletionStage.of(CompletableFuture.runAsync(runnable), null);
+        return SameExecutorCompletionStage.running(runnable, null);
+    }
+
+    /**
+     * Run all tasks on the executor, with at most <code>parallelism</code>
+     * tasks in flight, and collect their results in task order.
+     * <p>
+     * Tasks are pulled lazily from the <code>Seq</code> as earlier tasks
+     * complete. The first failure completes the result exceptionally. When
+     * the result completes exceptionally (e.g. because it was cancelled),
+     * pending tasks are never started and running tasks are interrupted.
+     */
+    public static <T> CompletionStage<List<T>> allOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism) {
+        return new AllOf<T>(tasks, executor).start(parallelism);
+    }
+
+    /**
+     * Like {@link #allOf(Seq, Executor, int)}, but the result completes with a
+     * {@link java.util.concurrent.TimeoutException} if the tasks haven't
+     * completed within the timeout.
+     */
+    public static <T> CompletionStage<List<T>> allOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism, Duration timeout) {
+        return new AllOf<T>(tasks, executor).withTimeout(timeout).start(parallelism);
+    }
+
+    /**
+     * Run the tasks on the executor, with at most <code>parallelism</code>
+     * tasks in flight, and complete with the outcome of the first task to
+     * complete, whether successful or not. All other tasks are cancelled:
+     * pending tasks are never started and running tasks are interrupted.
+     */
+    public static <T> CompletionStage<T> anyOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism) {
+        return new AnyOf<T>(tasks, executor, false).start(parallelism);
+    }
+
+    /**
+     * Like {@link #anyOf(Seq, Executor, int)}, but with a timeout.
+     */
+    public static <T> CompletionStage<T> anyOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism, Duration timeout) {
+        return new AnyOf<T>(tasks, executor, false).withTimeout(timeout).start(parallelism);
+    }
+
+    /**
+     * Run the tasks on the executor, with at most <code>parallelism</code>
+     * tasks in flight, and complete with the result of the first task to
+     * succeed. All other tasks are cancelled, as in
+     * {@link #anyOf(Seq, Executor, int)}. If all tasks fail, the result
+     * fails with the first failure, the others being suppressed by it. If
+     * there are no tasks, the result fails with a
+     * {@link java.util.NoSuchElementException}.
+     */
+    public static <T> CompletionStage<T> firstSuccessful(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism) {
+        return new AnyOf<T>(tasks, executor, true).start(parallelism);
+    }
+
+    /**
+     * Like {@link #firstSuccessful(Seq, Executor, int)}, but with a timeout.
+     */
+    public static <T> CompletionStage<T> firstSuccessful(Seq<? extends Supplier<? extends T>> tasks, Executor executor, int parallelism, Duration timeout) {
+        return new AnyOf<T>(tasks, executor, true).withTimeout(timeout).start(parallelism);
+    }
+
+    /**
+     * Run an action for each element on the executor, with at most
+     * <code>parallelism</code> actions in flight.
+     * <p>
+     * Elements are pulled lazily from the <code>Seq</code> as earlier actions
+     * complete, and the <code>Seq</code> is closed when the result completes.
+     * The first failure completes the result exceptionally. When the result
+     * completes exceptionally (e.g. because it was cancelled), pending
+     * elements are skipped and running actions are interrupted.
+     */
+    public static <T> CompletionStage<ForEachStats> forEach(Seq<? extends T> elements, Consumer<? super T> action, Executor executor, int parallelism) {
+        return new ForEach<T>(elements, action, executor).start(parallelism);
+    }
+
+    /**
+     * The outcome of a successful {@link Async#forEach(Seq, Consumer, Executor, int)}.
+     */
+    public static final class ForEachStats {
+        private final long     processed;
+        private final Duration elapsed;
+
+        ForEachStats(long processed, Duration elapsed) {
+            this.processed = processed;
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * The number of elements that have been processed.
+         */
+        public long processed() {
+            return processed;
+        }
+
+        /**
+         * The time from the first element being pulled until the last action
+         * completed.
+         */
+        public Duration elapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "ForEachStats [processed=" + processed + ", elapsed=" + elapsed + "]";
+        }
+    }
+
+    /**
+     * Fold the results of all stages with a collector in the order in which
+     * the stages complete, rather than after all of them have completed.
+     * <p>
+     * The first failure completes the result exceptionally and cancels all
+     * unfinished stages. Cancelling the result cancels them as well.
+     */
+    public static <T, A, R> CompletionStage<R> collect(Seq<? extends CompletionStage<? extends T>> stages, Collector<? super T, A, R> collector) {
+        List<CompletableFuture<? extends T>> futures = stages.<CompletableFuture<? extends T>>map(CompletionStage::toCompletableFuture).toList();
+        CompletableFuture<R> result = new SameExecutorCompletionStage<>(null);
+        result.whenComplete((r, t) -> {
+            if (t != null)
+                futures.forEach(f -> f.cancel(true));
+        });
+
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        A container = collector.supplier().get();
+        Object lock = new Object();
+        int[] remaining = { futures.size() };
+
+        if (remaining[0] == 0)
+            completeWith(result, collector, container);
+
+        for (CompletableFuture<? extends T> future : futures) {
+            future.whenComplete((value, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+
+                boolean last;
+                synchronized (lock) {
+                    if (result.isDone())
+                        return;
+
+                    accumulator.accept(container, value);
+                    last = --remaining[0] == 0;
+                }
+
+                if (last)
+                    completeWith(result, collector, container);
+            });
+        }
+
+        return result;
+    }
+
+    private static <A, R> void completeWith(CompletableFuture<R> result, Collector<?, A, R> collector, A container) {
+        try {
+            result.complete(collector.finisher().apply(container));
+        }
+        catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * An executor that runs each task in a new virtual thread if the JDK
+     * supports virtual threads (Java 21+), or in a (pooled) daemon platform
+     * thread otherwise.
+     * <p>
+     * This is a good fit for fan-out of blocking tasks with
+     * {@link #allOf(Seq, Executor, int)} and friends.
+     */
+    public static Executor virtualThreadExecutor() {
+        return VirtualThreads.EXECUTOR;
+    }
+
+    /**
+     * Whether {@link #virtualThreadExecutor()} runs tasks in virtual threads.
+     */
+    public static boolean virtualThreadsSupported() {
+        return VirtualThreads.SUPPORTED;
+    }
+
+    private static final class VirtualThreads {
+        static final Executor EXECUTOR;
+        static final boolean  SUPPORTED;
+
+        static {
+            Executor executor;
+            boolean supported;
+
+            try {
+                executor = (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                supported = true;
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                executor = Executors.newCachedThreadPool(r -> {
+                    Thread thread = new Thread(r, "jOOL-async");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                supported = false;
+            }
+
+            EXECUTOR = executor;
+            SUPPORTED = supported;
+        }
+    }
+
+    /**
+     * The fan-out engine: tasks are pulled from the source one at a time, and
+     * a new task is launched whenever a running task finishes.
+     */
+    private static abstract class FanOut<T, R> {
+        private final Seq<? extends Supplier<? extends T>>      source;
+        private final Iterator<? extends Supplier<? extends T>> tasks;
+        private final Executor                                  executor;
+        private final Set<Running>                              running = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger                             launchRequests = new AtomicInteger();
+        final CompletableFuture<R>                              result;
+
+        // Guarded by this
+        private int                                             launched;
+        private int                                             finished;
+        private boolean                                         exhausted;
+        private boolean                                         allDone;
+
+        FanOut(Seq<? extends Supplier<? extends T>> tasks, Executor executor) {
+            this.source = tasks;
+            this.tasks = tasks.iterator();
+            this.executor = executor;
+            this.result = new SameExecutorCompletionStage<>(executor);
+        }
+
+        abstract void onSuccess(int index, T value);
+
+        abstract void onFailure(int index, Throwable failure);
+
+        /**
+         * Called once, after all launched tasks have finished and no further
+         * tasks will be launched.
+         */
+        abstract void onAllDone(int launched);
+
+        /**
+         * Whether tasks that are still running should be interrupted when the
+         * result completes successfully, not just when it fails.
+         */
+        boolean interruptOnSuccess() {
+            return false;
+        }
+
+        /**
+         * Complete the result, after closing the source, such that the source
+         * is closed by the time anyone observes the result.
+         */
+        final void complete(R value) {
+            cancel();
+            result.complete(value);
+        }
+
+        final void fail(Throwable failure) {
+            cancel();
+            result.completeExceptionally(failure);
+        }
+
+        FanOut<T, R> withTimeout(Duration timeout) {
+            result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return this;
+        }
+
+        CompletionStage<R> start(int parallelism) {
+            if (parallelism <= 0)
+                throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+
+            result.whenComplete((r, t) -> cancel());
+
+            for (int i = 0; i < parallelism; i++)
+                if (!launchNext())
+                    break;
+
+            checkAllDone();
+            return result;
+        }
+
+        private boolean launchNext() {
+            Supplier<? extends T> task;
+            int index;
+
+            synchronized (this) {
+                if (exhausted)
+                    return false;
+
+                if (result.isDone() || !tasks.hasNext()) {
+                    exhausted = true;
+                    return false;
+                }
+
+                task = tasks.next();
+                index = launched++;
+            }
+
+            try {
+                executor.execute(() -> run(index, task));
+            }
+            catch (RejectedExecutionException e) {
+                fail(e);
+                finish();
+            }
+
+            return true;
+        }
+
+        private void run(int index, Supplier<? extends T> task) {
+            if (!result.isDone()) {
+                Running r = new Running(Thread.currentThread());
+                running.add(r);
+
+                // A cancellation may have happened before we were registered
+                if (result.isDone()) {
+                    running.remove(r);
+                    finish();
+                    return;
+                }
+
+                T value = null;
+                Throwable failure = null;
+
+                try {
+                    value = task.get();
+                }
+                catch (Throwable t) {
+                    failure = t;
+                }
+                finally {
+                    running.remove(r);
+                    r.done();
+                }
+
+                if (failure == null)
+                    onSuccess(index, value);
+                else
+                    onFailure(index, failure);
+            }
+
+            finish();
+        }
+
+        private void finish() {
+            synchronized (this) {
+                finished++;
+            }
+
+            requestLaunch();
+            checkAllDone();
+        }
+
+        /**
+         * Launch the next task, unless another call on the stack or in
+         * another thread is already launching tasks. In that case, it
+         * launches one more task on our behalf.
+         * <p>
+         * This keeps the stack flat for executors that run tasks in the
+         * calling thread, where launching a task finishes it, which launches
+         * the next task.
+         */
+        private void requestLaunch() {
+            if (launchRequests.getAndIncrement() == 0)
+                do
+                    launchNext();
+                while (launchRequests.decrementAndGet() > 0);
+        }
+
+        private void checkAllDone() {
+            int n;
+
+            synchronized (this) {
+                if (allDone || !exhausted || finished < launched)
+                    return;
+
+                allDone = true;
+                n = launched;
+            }
+
+            onAllDone(n);
+        }
+
+        private void cancel() {
+            synchronized (this) {
+                exhausted = true;
+                source.close();
+            }
+
+            if (result.isCompletedExceptionally() || result.isDone() && interruptOnSuccess())
+                for (Running r : running)
+                    r.interrupt();
+        }
+    }
+
+    /**
+     * A task running in a thread, which may only be interrupted while it's
+     * running the task, not when it has moved on to something else.
+     */
+    private static final class Running {
+        final Thread    thread;
+        private boolean done;
+        private boolean interrupted;
+
+        Running(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized void interrupt() {
+            if (!done) {
+                interrupted = true;
+                thread.interrupt();
+            }
+        }
+
+        synchronized void done() {
+            done = true;
+
+            // Don't leak an interrupt from a cancellation into the executor
+            if (interrupted)
+                Thread.interrupted();
+        }
+    }
+
+    private static final class AllOf<T> extends FanOut<T, List<T>> {
+        private final List<T> results = new ArrayList<>();
+
+        AllOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor) {
+            super(tasks, executor);
+        }
+
+        @Override
+        void onSuccess(int index, T value) {
+            synchronized (results) {
+                while (results.size() <= index)
+                    results.add(null);
+
+                results.set(index, value);
+            }
+        }
+
+        @Override
+        void onFailure(int index, Throwable failure) {
+            fail(failure);
+        }
+
+        @Override
+        void onAllDone(int launched) {
+            synchronized (results) {
+                while (results.size() < launched)
+                    results.add(null);
+
+                complete(Collections.unmodifiableList(results));
+            }
+        }
+    }
+
+    private static final class ForEach<T> extends FanOut<Void, ForEachStats> {
+        private final AtomicLong processed = new AtomicLong();
+        private final long       start     = System.nanoTime();
+
+        ForEach(Seq<? extends T> elements, Consumer<? super T> action, Executor executor) {
+            super(elements.<Supplier<Void>>map(t -> () -> {
+                action.accept(t);
+                return null;
+            }), executor);
+        }
+
+        @Override
+        void onSuccess(int index, Void value) {
+            processed.incrementAndGet();
+        }
+
+        @Override
+        void onFailure(int index, Throwable failure) {
+            fail(failure);
+        }
+
+        @Override
+        void onAllDone(int launched) {
+            complete(new ForEachStats(processed.get(), Duration.ofNanos(System.nanoTime() - start)));
+        }
+    }
+
+    private static final class AnyOf<T> extends FanOut<T, T> {
+        private final boolean successOnly;
+        private Throwable     firstFailure;
+
+        AnyOf(Seq<? extends Supplier<? extends T>> tasks, Executor executor, boolean successOnly) {
+            super(tasks, executor);
+            this.successOnly = successOnly;
+        }
+
+        @Override
+        boolean interruptOnSuccess() {
+            return true;
+        }
+
+        @Override
+        void onSuccess(int index, T value) {
+            complete(value);
+        }
+
+        @Override
+        void onFailure(int index, Throwable failure) {
+            if (!successOnly) {
+                fail(failure);
+                return;
+            }
+
+            synchronized (this) {
+                if (firstFailure == null)
+                    firstFailure = failure;
+                else if (firstFailure != failure)
+                    firstFailure.addSuppressed(failure);
+            }
+        }
+
+        @Override
+        void onAllDone(int launched) {
+            synchronized (this) {
+                fail(firstFailure != null ? firstFailure : new NoSuchElementException("No tasks"));
+            }
+        }
     }
 }
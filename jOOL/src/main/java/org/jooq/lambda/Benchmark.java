@@ -0,0 +1,353 @@
+package org.jooq.lambda;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ Lightweight in-library micro-benchmark harness (still not JMH, but good enough for smoke perf tests).
+ <ul>
+ <li>warm-up runs until the time per operation of two consecutive rounds differs by less than a tolerance (or the warm-up time is over)</li>
+ <li>operations are timed in batches, so {@link System#nanoTime()} is called once per batch, not twice per operation</li>
+ <li>results should be passed to the {@link Blackhole}, so the JIT can't eliminate the benchmarked code as dead</li>
+ <li>latencies per operation go into a log-bucketed {@link Histogram}</li>
+ <li>allocated bytes of the benchmark thread and GC counts/times are measured with the management beans
+ (if available: java.management and jdk.management are optional module dependencies)</li>
+ </ul>
+ <pre>{@code
+ Benchmark.Result r = Benchmark.of(Duration.ofMillis(500), Duration.ofSeconds(1))
+     .run(bh -> bh.consume(Seq.range(0, 100).sum()));
+ r.percentile(99);
+ }</pre>
+
+ @author Andrej Fink
+ */
+public final class Benchmark {
+  final long warmupNanos;
+  final long measurementNanos;
+  final long batchNanos;
+  final double tolerance;
+
+  private Benchmark (long warmupNanos, long measurementNanos, long batchNanos, double tolerance) {
+    if (warmupNanos < 0 || measurementNanos <= 0 || batchNanos <= 0) {
+      throw new IllegalArgumentException("Invalid times: warmup "+warmupNanos+", measurement "+measurementNanos+", batch "+batchNanos);
+    }
+    if (!(tolerance > 0)) {
+      throw new IllegalArgumentException("tolerance must be positive: "+tolerance);
+    }
+    this.warmupNanos = warmupNanos;
+    this.measurementNanos = measurementNanos;
+    this.batchNanos = batchNanos;
+    this.tolerance = tolerance;
+  }//new
+
+
+  /**
+   @param maxWarmup warm-up stops earlier if timings are stable
+   @param measurement time to measure after the warm-up
+   */
+  public static Benchmark of (Duration maxWarmup, Duration measurement) {
+    return new Benchmark(maxWarmup.toNanos(), measurement.toNanos(), 20_000, 0.05);
+  }
+
+  /** Target duration of one timed batch: long enough to amortize nanoTime cost and granularity (default 20µs) */
+  public Benchmark withBatchTime (Duration batchTime) {
+    return new Benchmark(warmupNanos, measurementNanos, batchTime.toNanos(), tolerance);
+  }
+
+  /** Relative difference of nanos/op between two warm-up rounds to consider timings stable (default 0.05 = 5%) */
+  public Benchmark withTolerance (double tolerance) {
+    return new Benchmark(warmupNanos, measurementNanos, batchNanos, tolerance);
+  }
+
+
+  public Result run (Runnable body) {
+    return run(bh -> body.run());
+  }
+
+  /** The result of every call is passed to the {@link Blackhole} */
+  public Result measure (Supplier<?> body) {
+    return run(bh -> bh.consume(body.get()));
+  }
+
+  public Result run (Consumer<Blackhole> body) {
+    final Blackhole bh = new Blackhole();
+    final Histogram histogram = new Histogram();
+    long batch = 1;
+    int warmupRounds = 0;
+    boolean stable = false;
+    Throwable failure = null;
+    long operations = 0;
+    long nanos = 0;
+    long allocated = -1;
+    long gcCount = 0;
+    long gcMillis = 0;
+
+    try {
+      // warm-up: grow the batch until it takes batchNanos, then run rounds of 10 batches until nanos/op is stable
+      long start = System.nanoTime();
+      double previous = Double.NaN;
+      int stableRounds = 0;
+      do {
+        long roundNanos = 0;
+        for (int i = 0; i < 10; i++) {
+          roundNanos += timeBatch(body, bh, batch);
+        }
+        if (roundNanos < batchNanos * 5 && batch < (1L << 40)) {// avg batch < batchNanos/2
+          batch *= 2;
+          previous = Double.NaN;
+          stableRounds = 0;
+          continue;
+        }
+        warmupRounds++;
+        double current = roundNanos / (10.0 * batch);
+        stableRounds = Math.abs(current - previous) <= tolerance * previous ? stableRounds + 1 : 0;
+        previous = current;
+        stable = stableRounds >= 2;
+      } while (!stable && System.nanoTime() - start < warmupNanos);
+
+      // measurement
+      long[] gcBefore = gc();
+      long allocatedBefore = allocatedBytes();
+      start = System.nanoTime();
+      do {
+        long t = timeBatch(body, bh, batch);
+        histogram.record(t / batch, batch);
+        operations += batch;
+        nanos += t;
+      } while (System.nanoTime() - start < measurementNanos);
+
+      long allocatedAfter = allocatedBytes();
+      long[] gcAfter = gc();
+      allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+      gcCount = gcBefore[0] < 0 || gcAfter[0] < 0 ? -1 : gcAfter[0] - gcBefore[0];
+      gcMillis = gcBefore[1] < 0 || gcAfter[1] < 0 ? -1 : gcAfter[1] - gcBefore[1];
+    } catch (Throwable showStopper) {
+      failure = showStopper;
+    }
+    bh.flush();
+    return new Result(operations, nanos, batch, warmupRounds, stable, histogram, allocated, gcCount, gcMillis, failure);
+  }
+
+  private static long timeBatch (Consumer<Blackhole> body, Blackhole bh, long batch) {
+    long t = System.nanoTime();
+    for (long i = 0; i < batch; i++) {
+      body.accept(bh);
+    }
+    return System.nanoTime() - t;
+  }
+
+  /** @return [collection count, collection time in ms] of all garbage collectors or [-1, -1] if not supported */
+  static long[] gc () {
+    long[] r = new long[2];
+    try {
+      for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+        r[0] += Math.max(gc.getCollectionCount(), 0);
+        r[1] += Math.max(gc.getCollectionTime(), 0);
+      }
+    } catch (LinkageError notSupported) {
+      // no java.management module (it's an optional dependency)
+      r[0] = r[1] = -1;
+    }
+    return r;
+  }
+
+  /** @return bytes allocated by the current thread or -1 if not supported by the JVM */
+  static long allocatedBytes () {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    } catch (LinkageError | UnsupportedOperationException notSupported) {
+      // no java.management/jdk.management module or allocation measurement disabled
+    }
+    return -1;
+  }
+
+
+  /**
+   Sink for benchmark results: consumed values are folded into fields of an escaped object and finally published to a volatile,
+   so the JIT must compute them.
+   */
+  public static final class Blackhole {
+    private Object lastObject;
+    private long bits;
+    volatile long sink;
+
+    public Blackhole () {
+    }//new
+
+    public void consume (Object obj) {
+      lastObject = obj;
+    }
+
+    public void consume (long value) {
+      bits += value;
+    }
+
+    public void consume (int value) {
+      bits += value;
+    }
+
+    public void consume (double value) {
+      bits += Double.doubleToRawLongBits(value);
+    }
+
+    public void consume (boolean value) {
+      bits += value ? 1 : 0;
+    }
+
+    void flush () {
+      sink = bits ^ System.identityHashCode(lastObject);
+    }
+  }//Blackhole
+
+
+  /**
+   Log-linear latency histogram: 8 buckets per power of two (≤ 12.5% relative error), values below 8 are exact.
+   Not thread-safe.
+   */
+  public static final class Histogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public Histogram () {
+    }//new
+
+    static int bucket (long value) {
+      if (value < SUB) {
+        return (int) value;
+      }
+      int exp = 63 - Long.numberOfLeadingZeros(value);
+      return (exp - SUB_BITS + 1) * SUB + (int) ((value >>> (exp - SUB_BITS)) & (SUB - 1));
+    }
+
+    static long lowerBound (int bucket) {
+      if (bucket < SUB) {
+        return bucket;
+      }
+      int exp = bucket / SUB + SUB_BITS - 1;
+      return (long) (SUB + bucket % SUB) << (exp - SUB_BITS);
+    }
+
+    public void record (long value) {
+      record(value, 1);
+    }
+
+    /** Records the same value n times */
+    public void record (long value, long n) {
+      value = Math.max(value, 0);
+      counts[bucket(value)] += n;
+      count += n;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+
+    public long count () {
+      return count;
+    }
+
+    public long min () {
+      return count == 0 ? 0 : min;
+    }
+
+    public long max () {
+      return count == 0 ? 0 : max;
+    }
+
+    /**
+     @param percentile e.g. 50, 90, 99, 99.9
+     @return lower bound of the bucket holding the percentile, clamped to [min..max] (max for the last rank); 0 for an empty histogram
+     */
+    public long percentile (double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+      if (rank >= count) {
+        return max;
+      }
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(Math.max(lowerBound(i), min), max);
+        }
+      }
+      return max;
+    }
+
+    @Override public String toString () {
+      return "p50="+percentile(50)+" p90="+percentile(90)+" p99="+percentile(99)+" p999="+percentile(99.9)
+          +" min="+min()+" max="+max();
+    }
+  }//Histogram
+
+
+  /** Structured benchmark result. Latencies are nanos per operation (averaged over a batch). */
+  public static final class Result {
+    public final long operations;
+    /** measured time (without warm-up) */
+    public final long nanos;
+    public final long batchSize;
+    public final int warmupRounds;
+    /** warm-up has reached stable timings before the max warm-up time */
+    public final boolean stable;
+    public final Histogram histogram;
+    /** bytes allocated by the benchmark thread during measurement or -1 if not supported */
+    public final long allocatedBytes;
+    /** GC count during measurement or -1 if not supported */
+    public final long gcCount;
+    /** GC time in ms during measurement or -1 if not supported */
+    public final long gcMillis;
+    /** exception that stopped the benchmark or null */
+    public final Throwable failure;
+
+    Result (long operations, long nanos, long batchSize, int warmupRounds, boolean stable, Histogram histogram,
+        long allocatedBytes, long gcCount, long gcMillis, Throwable failure) {
+      this.operations = operations;
+      this.nanos = nanos;
+      this.batchSize = batchSize;
+      this.warmupRounds = warmupRounds;
+      this.stable = stable;
+      this.histogram = histogram;
+      this.allocatedBytes = allocatedBytes;
+      this.gcCount = gcCount;
+      this.gcMillis = gcMillis;
+      this.failure = failure;
+    }//new
+
+    public double nanosPerOp () {
+      return operations == 0 ? Double.NaN : (double) nanos / operations;
+    }
+
+    public double opsPerSecond () {
+      return nanos == 0 ? Double.NaN : operations * 1e9 / nanos;
+    }
+
+    public double bytesPerOp () {
+      return allocatedBytes < 0 || operations == 0 ? Double.NaN : (double) allocatedBytes / operations;
+    }
+
+    public long percentile (double percentile) {
+      return histogram.percentile(percentile);
+    }
+
+    @Override public String toString () {
+      return String.format("BENCHMARK: %d ops in %d ns ~ %.1f ns/op ~ %.0f op/s; %s; %s B/op; gc=%s (%s ms); batch=%d warm-up=%d%s%s",
+          operations, nanos, nanosPerOp(), opsPerSecond(), histogram,
+          allocatedBytes < 0 ? "?" : String.format("%.1f", bytesPerOp()),
+          gcCount < 0 ? "?" : gcCount, gcMillis < 0 ? "?" : gcMillis,
+          batchSize, warmupRounds, stable ? "" : " (unstable)", failure == null ? "" : " FAILED: "+failure);
+    }
+  }//Result
+}
@@ -217,6 +217,8 @@ public final class Blocking {
         
         @Override
         public T get() {
+            Object event = JfrEvents.begin(JfrEvents.BLOCKING);
+
             try {
                 ForkJoinPool.managedBlock(new ManagedBlocker() {
                     @Override
@@ -234,6 +236,9 @@ public final class Blocking {
             catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
+            finally {
+                JfrEvents.commit(event, "managedBlock", 1L);
+            }
 
             return result;
         }
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+/**
+ * A FIFO queue that stores its elements in linked array chunks.
+ * <p>
+ * Unlike a <code>LinkedList</code>, this allocates one array per chunk rather
+ * than one node per element, and unlike an <code>ArrayDeque</code>, it never
+ * copies elements when growing, and it releases chunks as soon as they have
+ * been consumed. Chunk sizes start small and double up to a maximum, so that
+ * many short queues remain cheap. <code>null</code> elements are allowed.
+ *
+ * @author Lukas Eder
+ */
+final class ChunkedQueue<T> {
+
+    private static final int MIN_CHUNK_SIZE = 8;
+    private static final int MAX_CHUNK_SIZE = 1024;
+
+    // The last slot of each chunk references the next chunk
+    private Object[]         head;
+    private Object[]         tail;
+    private int              headIndex;
+    private int              tailIndex;
+    private int              size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void offer(T element) {
+        if (tail == null) {
+            head = tail = new Object[MIN_CHUNK_SIZE + 1];
+        }
+        else if (tailIndex == tail.length - 1) {
+            Object[] chunk = new Object[Math.min(MAX_CHUNK_SIZE, (tail.length - 1) * 2) + 1];
+            tail[tail.length - 1] = chunk;
+            tail = chunk;
+            tailIndex = 0;
+        }
+
+        tail[tailIndex++] = element;
+        size++;
+    }
+
+    /**
+     * Remove the head of this queue, which must not be empty.
+     */
+    @SuppressWarnings("unchecked")
+    T poll() {
+        if (headIndex == head.length - 1) {
+            Object[] chunk = (Object[]) head[head.length - 1];
+            head[head.length - 1] = null;
+            head = chunk;
+            headIndex = 0;
+        }
+
+        T result = (T) head[headIndex];
+        head[headIndex++] = null;
+
+        // Once drained, the queue only retains its last chunk, which is reused
+        if (--size == 0) {
+            head = tail;
+            headIndex = tailIndex = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove all elements, releasing all chunks.
+     */
+    void clear() {
+        head = tail = null;
+        headIndex = tailIndex = size = 0;
+    }
+}
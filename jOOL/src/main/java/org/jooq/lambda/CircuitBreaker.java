@@ -0,0 +1,151 @@
+package org.jooq.lambda;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ Lock-free circuit breaker for {@link Wrap#circuitBreaker}.
+ <br>
+ Records the outcomes of the last windowSize calls. Once at least minimumCalls were recorded
+ and their failure rate reaches failureRateThreshold, the breaker opens: calls are rejected
+ with {@link #rejected()} without being attempted. After openDuration, a single trial call is permitted (half-open):
+ its success closes the breaker (with an empty window), its failure opens it again.
+ <br>
+ One CircuitBreaker can be shared by several wrapped functions calling the same service.
+
+ @author Andrej Fink
+ */
+public final class CircuitBreaker {
+  static final int CLOSED = 0;
+  static final int OPEN = 1;
+  static final int HALF_OPEN = 2;
+
+  static final int SUCCESS = 1;
+  static final int FAILURE = 2;
+
+  final double failureRateThreshold;
+  final int minimumCalls;
+  final long openDurationNanos;
+  final LongSupplier nanoClock;
+
+  final AtomicInteger state = new AtomicInteger(CLOSED);
+  volatile long openUntil;
+
+  // Sliding window: ring of SUCCESS/FAILURE outcomes (0 = empty slot) and running totals
+  final AtomicIntegerArray window;
+  final AtomicLong cursor = new AtomicLong();
+  final AtomicInteger calls = new AtomicInteger();
+  final AtomicInteger failures = new AtomicInteger();
+
+  /** Shared, stackless: rejected calls in a hot loop should be as cheap as possible */
+  private final RejectedExecutionException rejected = new RejectedExecutionException("CircuitBreaker is open") {
+    private static final long serialVersionUID = 1L;
+
+    @Override public synchronized Throwable fillInStackTrace () {
+      return this;
+    }
+  };
+
+  CircuitBreaker (double failureRateThreshold, int windowSize, int minimumCalls, long openDurationNanos, LongSupplier nanoClock) {
+    if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+      throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: "+failureRateThreshold);
+    }
+    if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+      throw new IllegalArgumentException("Must be 1 <= minimumCalls <= windowSize: "+minimumCalls+", "+windowSize);
+    }
+    this.failureRateThreshold = failureRateThreshold;
+    this.minimumCalls = minimumCalls;
+    this.openDurationNanos = openDurationNanos;
+    this.nanoClock = nanoClock;
+    window = new AtomicIntegerArray(windowSize);
+  }//new
+
+
+  /** e.g. CircuitBreaker.of(0.5, 100, 20, Duration.ofSeconds(30)):
+   open if at least half of the last 100 calls (but at least 20 calls) failed, try again after 30 seconds */
+  public static CircuitBreaker of (double failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration) {
+    return new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls, openDuration.toNanos(), System::nanoTime);
+  }
+
+
+  /** true if a call may be attempted now; the caller must then report it with {@link #onSuccess} or {@link #onFailure} */
+  public boolean tryAcquire () {
+    switch (state.get()) {
+      case CLOSED:
+        return true;
+      case OPEN:
+        return nanoClock.getAsLong() - openUntil >= 0 && state.compareAndSet(OPEN, HALF_OPEN);
+      default:// HALF_OPEN: the trial call is still running
+        return false;
+    }
+  }
+
+  public void onSuccess () {
+    if (state.get() == HALF_OPEN) {
+      if (state.compareAndSet(HALF_OPEN, CLOSED)) {
+        reset();
+      }
+    } else {
+      record(SUCCESS);
+    }
+  }
+
+  public void onFailure () {
+    int s = state.get();
+    if (s == HALF_OPEN) {
+      open(HALF_OPEN);
+    } else if (s == CLOSED) {
+      record(FAILURE);
+      int n = calls.get();
+      if (n >= minimumCalls && failures.get() >= failureRateThreshold * n) {
+        open(CLOSED);
+      }
+    }
+  }
+
+  public boolean isOpen () {
+    return state.get() != CLOSED;
+  }
+
+  /** The (stackless, shared) exception that {@link Wrap#circuitBreaker} returns for rejected calls */
+  public RejectedExecutionException rejected () {
+    return rejected;
+  }
+
+
+  private void open (int expectedState) {
+    openUntil = nanoClock.getAsLong() + openDurationNanos;
+    state.compareAndSet(expectedState, OPEN);
+  }
+
+  private void record (int outcome) {
+    int i = (int) Long.remainderUnsigned(cursor.getAndIncrement(), window.length());
+    int old = window.getAndSet(i, outcome);
+    if (old == 0) {
+      calls.incrementAndGet();
+    } else if (old == FAILURE) {
+      failures.decrementAndGet();
+    }
+    if (outcome == FAILURE) {
+      failures.incrementAndGet();
+    }
+  }
+
+  private void reset () {
+    for (int i = 0; i < window.length(); i++) {
+      window.set(i, 0);
+    }
+    calls.set(0);
+    failures.set(0);
+  }
+
+
+  @Override public String toString () {
+    return "CircuitBreaker("+(state.get() == CLOSED ? "closed" : state.get() == OPEN ? "open" : "half-open")
+        +", failures="+failures.get()+"/"+calls.get()+")";
+  }
+}
@@ -340,6 +340,22 @@ public interface Collectable<T> {
 
 // [jooq-tools] END [collect]
 
+    /**
+     * Compute several aggregates in a single pass, e.g.
+     * <p>
+     * <code><pre>
+     * // (3, 6.0, Optional[2])
+     * Seq.of(1, 2, 3).aggregate(a -&gt; a.count().sumDouble(i -&gt; i).median(i -&gt; i));
+     * </code></pre>
+     * <p>
+     * Unlike {@link #collect(Collector, Collector)} and its overloads,
+     * aggregates share intermediate state where possible, see
+     * {@link Aggregation}.
+     */
+    default <R> R aggregate(Function<? super Aggregation.With0<T>, ? extends Aggregation<T, R>> aggregation) {
+        return collect(aggregation.apply(Aggregation.of()).toCollector());
+    }
+
     /**
      * Count the values in this collectable.
      */
@@ -65,7 +65,11 @@ public class Either<T> extends Tuple2<T,Throwable> implements Callable<T> {
     return new Either<>(value, null);
   }
 
+  /** Sentinel exceptions ({@link UncheckedException#sentinel}) come with a preallocated failure, which is reused */
   public static <T> Either<T> failure (Throwable t) {
+    if (t instanceof UncheckedException && ((UncheckedException) t).failure != null) {
+      return Wrap.castUnsafe(((UncheckedException) t).failure);
+    }
     return new Either<>(null, Objects.requireNonNull(t));
   }
 
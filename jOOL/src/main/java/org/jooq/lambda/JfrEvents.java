@@ -0,0 +1,96 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+/**
+ * Java Flight Recorder events for expensive operations.
+ * <p>
+ * This is the Java 9 implementation, which doesn't record anything, as the
+ * <code>jdk.jfr</code> API is available only from Java 11 onwards. The Java 11
+ * implementation in <code>META-INF/versions/11</code> of the multi-release jar
+ * replaces this class on Java 11+ runtimes. Callers can rely on
+ * {@link #begin(int)} returning <code>null</code> when an event isn't
+ * recorded, so they don't have to measure anything when JFR isn't recording.
+ *
+ * @author Lukas Eder
+ */
+final class JfrEvents {
+
+    /**
+     * A window partition build.
+     */
+    static final int WINDOW      = 0;
+
+    /**
+     * A {@link SeqBuffer} filling up from its source.
+     */
+    static final int BUFFER      = 1;
+
+    /**
+     * The build side of a join filling up its {@link SeqBuffer}.
+     */
+    static final int JOIN        = 2;
+
+    /**
+     * An operation that buffers the whole stream, such as
+     * <code>reverse()</code>, <code>shuffle()</code>, <code>sorted()</code> or
+     * <code>cycle()</code>.
+     */
+    static final int FULL_BUFFER = 3;
+
+    /**
+     * An {@link Agg} collector that buffers all values.
+     */
+    static final int AGG         = 4;
+
+    /**
+     * A {@link java.util.concurrent.ForkJoinPool#managedBlock} call by
+     * {@link Blocking}.
+     */
+    static final int BLOCKING    = 5;
+
+    /**
+     * Whether events of a given type are currently recorded.
+     */
+    static boolean isEnabled(int type) {
+        return false;
+    }
+
+    /**
+     * Begin an event of a given type.
+     *
+     * @return The event, or <code>null</code> if events of the type are not
+     *         recorded.
+     */
+    static Object begin(int type) {
+        return null;
+    }
+
+    /**
+     * End an event, if it's not <code>null</code>, without committing it yet.
+     */
+    static void end(Object event) {}
+
+    /**
+     * End and commit an event, if it's not <code>null</code>.
+     *
+     * @param operation The operation, e.g. <code>"reverse"</code>.
+     * @param size The number of elements processed by the operation.
+     */
+    static void commit(Object event, String operation, long size) {}
+
+    private JfrEvents() {}
+}
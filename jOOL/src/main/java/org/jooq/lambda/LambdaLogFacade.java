@@ -4,8 +4,21 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  Lambda Factory - CallSite - static Method Handle
@@ -16,6 +29,8 @@ import java.util.List;
  ×4) JUL (java.util.logging.Logger) - no warn(msg,t) method
  5) System.err
 
+ -Dorg.jooq.logger.async=capacity (or env) makes {@link #getLogger} loggers {@link #async}.
+
  private static final System.Logger LOGGER = System.getLogger("c.f.b.DefaultLogger");
  org.slf4j:slf4j-jdk-platform-logging
 
@@ -24,22 +39,85 @@ import java.util.List;
 abstract class LambdaLogFacade implements Thread.UncaughtExceptionHandler {
   static final MethodHandle staticWarnMethodHandle;
   static final Method staticLoggerFactoryGetLoggerMethod;
+  static final int staticAsyncCapacity;
 
 
   public abstract void warn (String msg, Throwable t);
 
+  /** Lazy {@link #warn(String, Throwable)}: msg is only built if the warning is logged (see {@link #throttled}) */
+  public void warn (Supplier<String> msg, Throwable t) {
+    warn(msg.get(), t);
+  }
+
+
+  /** Parameterized warning: every "{}" in template is replaced by the next argument, but only if the warning is logged */
+  public void warn (String template, Object arg1, Throwable t) {
+    warn(format(template, 1, arg1, null, null), t);
+  }
+
+  /** @see #warn(String, Object, Throwable) */
+  public void warn (String template, Object arg1, Object arg2, Throwable t) {
+    warn(format(template, 2, arg1, arg2, null), t);
+  }
+
+  /** @see #warn(String, Object, Throwable) */
+  public void warn (String template, Object arg1, Object arg2, Object arg3, Throwable t) {
+    warn(format(template, 3, arg1, arg2, arg3), t);
+  }
+
+  /** Slf4j-like template formatting: "{}" → String.valueOf(arg) for up to argc args */
+  static String format (String template, int argc, Object arg1, Object arg2, Object arg3) {
+    StringBuilder sb = new StringBuilder(template.length() + 32);
+    int from = 0;
+    for (int i = 0; i < argc; i++) {
+      int at = template.indexOf("{}", from);
+      if (at < 0) {
+        break;
+      }
+      sb.append(template, from, at).append(i == 0 ? arg1 : i == 1 ? arg2 : arg3);
+      from = at + 2;
+    }
+    return sb.append(template, from, template.length()).toString();
+  }
+
+
+  /** Logger that hands warnings over to the daemon drain thread (one for all async loggers, parked while there is nothing to log)
+   via a bounded lock-free ring buffer of the given capacity
+   (rounded up to a power of two), so the calling thread never blocks on logging I/O.
+   Templates are formatted on the drain thread; of their arguments, only Strings, boxed primitives, enums, Classes and UUIDs
+   are passed as they are, all others are converted with toString() on the calling thread (as they may change in the meantime).
+   Supplier messages are called on the drain thread, so they must only capture immutable (or thread-safe) state.
+   If the buffer is full, the warning is dropped (without formatting anything) and counted;
+   the drain thread reports "Dropped N" when it catches up. */
+  public LambdaLogFacade async (int capacity) {
+    return new LambdaLogFacadeAsync(this, capacity);
+  }
+
+
+  /** Logger that logs at most permitsPerSecond warnings per second and exception signature
+   (exception class + call site, i.e. the first application frame on the stack).
+   Excess warnings are neither formatted nor logged, but counted and reported as one "Suppressed N" summary
+   per signature every summaryIntervalMillis (on the next warning or by a daemon timer, or on {@link LambdaLogFacadeThrottled#flush()}). */
+  public LambdaLogFacade throttled (int permitsPerSecond, long summaryIntervalMillis) {
+    return new LambdaLogFacadeThrottled(this, permitsPerSecond, TimeUnit.MILLISECONDS.toNanos(summaryIntervalMillis), System::nanoTime);
+  }
+
 
   /** LambdaLogFacade produces Loggers (subclasses of LambdaLogFacade).
    Similar to Slf4j: Logger log = LoggerFactory.getLogger(SomeAppClass.class) */
   public static LambdaLogFacade getLogger (Class<?> clazzWhereLogger) {
     if (staticWarnMethodHandle == null || staticLoggerFactoryGetLoggerMethod == null) {
-      return new LambdaLogFacadeStdErr(clazzWhereLogger);
+      return asyncIfConfigured(new LambdaLogFacadeStdErr(clazzWhereLogger));
     }
     Object logger = invokeGetLogger(staticLoggerFactoryGetLoggerMethod, clazzWhereLogger);
     if (logger == null) {
-      return new LambdaLogFacadeStdErr(clazzWhereLogger);
+      return asyncIfConfigured(new LambdaLogFacadeStdErr(clazzWhereLogger));
     }
-    return new LambdaLogFacadeDelegate(clazzWhereLogger, logger);
+    return asyncIfConfigured(new LambdaLogFacadeDelegate(clazzWhereLogger, logger));
+  }
+
+  static LambdaLogFacade asyncIfConfigured (LambdaLogFacade logger) {
+    return staticAsyncCapacity > 0 ? logger.async(staticAsyncCapacity) : logger;
   }
 
 
@@ -83,6 +161,18 @@ abstract class LambdaLogFacade implements Thread.UncaughtExceptionHandler {
 
     staticWarnMethodHandle = mh;
     staticLoggerFactoryGetLoggerMethod = loggerFactoryGetLogger;
+
+    String asyncCapacity = System.getProperty("org.jooq.logger.async");
+    if (asyncCapacity == null) {
+      asyncCapacity = System.getenv("org.jooq.logger.async");
+    }
+    int capacity = 0;
+    try {
+      capacity = asyncCapacity == null ? 0 : Integer.parseInt(asyncCapacity.trim());
+    } catch (NumberFormatException e) {
+      printToStdErr(LambdaLogFacade.class, "Invalid org.jooq.logger.async capacity: "+asyncCapacity, e);
+    }
+    staticAsyncCapacity = capacity;
   }
 
   private static void addLoggerFacadeClassName (List<String> dst, String key, String defaultClassName) {
@@ -145,6 +235,461 @@ abstract class LambdaLogFacade implements Thread.UncaughtExceptionHandler {
     }
   }//LambdaLogFacadeDelegate
 
+
+  static class LambdaLogFacadeThrottled extends LambdaLogFacade {
+    final LambdaLogFacade delegate;
+    final int permitsPerSecond;
+    final long summaryIntervalNanos;
+    final LongSupplier nanoClock;
+    /** Max number of distinct signatures with their own bucket; further ones share {@link #otherSites} */
+    static final int MAX_CALL_SITES = 1024;
+
+    final ConcurrentHashMap<Signature,CallSite> callSites = new ConcurrentHashMap<>();
+    final CallSite otherSites;
+    final AtomicLong nextSummary;
+    final AtomicBoolean summaryScheduled = new AtomicBoolean();
+
+    LambdaLogFacadeThrottled (LambdaLogFacade delegate, int permitsPerSecond, long summaryIntervalNanos, LongSupplier nanoClock) {
+      super(delegate.loggerAppClassName);
+      if (permitsPerSecond <= 0) {
+        throw new IllegalArgumentException("permitsPerSecond must be positive: "+permitsPerSecond);
+      }
+      this.delegate = delegate;
+      this.permitsPerSecond = permitsPerSecond;
+      this.summaryIntervalNanos = summaryIntervalNanos;
+      this.nanoClock = nanoClock;
+      nextSummary = new AtomicLong(nanoClock.getAsLong() + summaryIntervalNanos);
+      otherSites = new CallSite(null);
+    }//new
+
+    @Override public void warn (String msg, Throwable t) {
+      warn(() -> msg, t);
+    }
+
+    @Override public void warn (Supplier<String> msg, Throwable t) {
+      if (tryAcquire(t)) {
+        delegate.warn(msg, t);
+      }
+      summarizeIfDue();
+    }
+
+    @Override public void warn (String template, Object arg1, Throwable t) {
+      if (tryAcquire(t)) {
+        delegate.warn(template, arg1, t);
+      }
+      summarizeIfDue();
+    }
+
+    @Override public void warn (String template, Object arg1, Object arg2, Throwable t) {
+      if (tryAcquire(t)) {
+        delegate.warn(template, arg1, arg2, t);
+      }
+      summarizeIfDue();
+    }
+
+    @Override public void warn (String template, Object arg1, Object arg2, Object arg3, Throwable t) {
+      if (tryAcquire(t)) {
+        delegate.warn(template, arg1, arg2, arg3, t);
+      }
+      summarizeIfDue();
+    }
+
+    /** Takes a permit of t's signature, or counts the warning as suppressed */
+    boolean tryAcquire (Throwable t) {
+      return tryAcquire(Signature.of(t));
+    }
+
+    boolean tryAcquire (Signature signature) {
+      CallSite site = callSites.get(signature);
+      if (site == null) {
+        site = callSites.size() < MAX_CALL_SITES ? callSites.computeIfAbsent(signature, CallSite::new) : otherSites;
+      }
+      if (site.tryAcquire(nanoClock.getAsLong())) {
+        return true;
+      }
+      site.suppressed.incrementAndGet();
+      scheduleSummary();
+      return false;
+    }
+
+    /** Makes sure the summary of a burst is logged, even if no further warning arrives to trigger it */
+    void scheduleSummary () {
+      if (!summaryScheduled.get() && summaryScheduled.compareAndSet(false, true)) {
+        long delay = Math.max(0, nextSummary.get() - nanoClock.getAsLong());
+        SummaryTimer.timer.schedule(this::scheduledSummary, delay, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    void scheduledSummary () {
+      summaryScheduled.set(false);
+      nextSummary.set(nanoClock.getAsLong() + summaryIntervalNanos);
+      flush();
+    }
+
+    void summarizeIfDue () {
+      long now = nanoClock.getAsLong();
+      long next = nextSummary.get();
+      if (now - next >= 0 && nextSummary.compareAndSet(next, now + summaryIntervalNanos)) {
+        flush();
+      }
+    }
+
+    /** Log (and reset) "Suppressed N" summaries of all signatures with suppressed warnings */
+    public void flush () {
+      for (CallSite site : callSites.values()) {
+        flush(site);
+      }
+      flush(otherSites);
+    }
+
+    void flush (CallSite site) {
+      long n = site.suppressed.getAndSet(0);
+      if (n > 0) {
+        delegate.warn("Suppressed "+n+" warning(s): "+(site.signature != null ? site.signature : "other signatures"), null);
+      }
+    }
+
+    /**
+     Exception class + call site: the first frame on the current stack outside of jOOL and the JDK, i.e. the application code
+     that runs the failing Wrap/Unchecked function (directly or via a Seq pipeline).
+     The same failure repeated in a hot loop has the same signature. The stack is walked lazily (only up to that frame),
+     without capturing the exception's stack trace.
+     */
+    static final class Signature {
+      private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+      /** jOOL's (and the JDK's) own classes, which are skipped while looking for the call site */
+      private static final ClassValue<Boolean> LIBRARY = new ClassValue<Boolean>() {
+        @Override protected Boolean computeValue (Class<?> type) {
+          String name = type.getName();
+          if (type.getClassLoader() == null || name.startsWith("java.") || name.startsWith("javax.")
+              || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("com.sun.")) {
+            return true;
+          }
+          try {
+            CodeSource own = LambdaLogFacade.class.getProtectionDomain().getCodeSource();
+            CodeSource other = type.getProtectionDomain().getCodeSource();
+            if (own != null && own.getLocation() != null) {
+              return other != null && own.getLocation().equals(other.getLocation());
+            }
+          } catch (SecurityException denied) {
+            // fall back to the package name
+          }
+          return name.startsWith("org.jooq.lambda.");
+        }
+      };
+
+      final Class<?> type;
+      final Class<?> siteClass;
+      final String methodName;
+      final int byteCodeIndex;
+      /** only used to render the summary */
+      final StackWalker.StackFrame frame;
+
+      Signature (Class<?> type, Class<?> siteClass, String methodName, int byteCodeIndex, StackWalker.StackFrame frame) {
+        this.type = type;
+        this.siteClass = siteClass;
+        this.methodName = methodName;
+        this.byteCodeIndex = byteCodeIndex;
+        this.frame = frame;
+      }//new
+
+      static Signature of (Throwable t) {
+        Class<?> type = t == null ? null : t.getClass();
+        StackWalker.StackFrame site = WALKER.walk(frames -> frames
+            .filter(f -> !LIBRARY.get(f.getDeclaringClass()))
+            .findFirst()
+            .orElse(null));
+        return site == null
+            ? new Signature(type, null, null, -1, null)// e.g. a pool thread running a parallel Seq
+            : new Signature(type, site.getDeclaringClass(), site.getMethodName(), site.getByteCodeIndex(), site);
+      }
+
+      @Override public boolean equals (Object o) {
+        if (!(o instanceof Signature)) {
+          return false;
+        }
+        Signature s = (Signature) o;
+        return type == s.type && siteClass == s.siteClass && byteCodeIndex == s.byteCodeIndex
+            && Objects.equals(methodName, s.methodName);
+      }
+
+      @Override public int hashCode () {
+        return ((Objects.hashCode(type) * 31 + Objects.hashCode(siteClass)) * 31 + Objects.hashCode(methodName)) * 31 + byteCodeIndex;
+      }
+
+      /** Only built for summaries */
+      @Override public String toString () {
+        String name = type == null ? "null" : type.getName();
+        if (siteClass == null) {
+          return name;
+        }
+        return name+" at "+(frame != null ? frame.toStackTraceElement() : siteClass.getName()+"."+methodName+"@"+byteCodeIndex);
+      }
+    }//Signature
+
+    /** Token bucket: holds up to permitsPerSecond tokens, refilled continuously at permitsPerSecond */
+    final class CallSite {
+      final Signature signature;
+      final AtomicLong suppressed = new AtomicLong();
+      double tokens;
+      long lastRefill;
+
+      CallSite (Signature signature) {
+        this.signature = signature;
+        tokens = permitsPerSecond;
+        lastRefill = nanoClock.getAsLong();
+      }//new
+
+      synchronized boolean tryAcquire (long now) {
+        tokens = Math.min(permitsPerSecond, tokens + (now - lastRefill) * (permitsPerSecond / 1e9));
+        lastRefill = now;
+        if (tokens < 1) {
+          return false;
+        }
+        tokens--;
+        return true;
+      }
+    }//CallSite
+  }//LambdaLogFacadeThrottled
+
+  /** The daemon thread that logs the "Suppressed N" summaries of throttled loggers, started with the first suppressed warning */
+  static final class SummaryTimer {
+    static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread t = new Thread(r, "jOOL-log-summary");
+      t.setDaemon(true);
+      return t;
+    });
+
+    private SummaryTimer () {
+    }//new
+  }//SummaryTimer
+
+  static class LambdaLogFacadeAsync extends LambdaLogFacade {
+    private static final Object RAW = new Object();// msg is not a template
+
+    final LambdaLogFacade delegate;
+    final int mask;
+    /** Vyukov's bounded MPMC queue: slot i is free for producer position p if sequences[i] == p, full for the consumer if == p+1 */
+    final AtomicLongArray sequences;
+    final Object[] messages;// String template/msg or Supplier<String>
+    final Object[] args1;
+    final Object[] args2;
+    final Object[] args3;
+    final int[] argcs;
+    final Throwable[] throwables;
+    final AtomicLong tail = new AtomicLong();
+    volatile long head;// written by the drain thread only, after the record has been logged
+    final AtomicLong dropped = new AtomicLong();
+    /** this logger is in {@link Drainer#scheduled} (or being drained and will be re-checked) */
+    final AtomicBoolean scheduled = new AtomicBoolean();
+
+    LambdaLogFacadeAsync (LambdaLogFacade delegate, int capacity) {
+      super(delegate.loggerAppClassName);
+      if (capacity <= 0 || capacity > (1 << 30)) {
+        throw new IllegalArgumentException("capacity must be in [1..2^30]: "+capacity);
+      }
+      int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+      this.delegate = delegate;
+      mask = size - 1;
+      sequences = new AtomicLongArray(size);
+      for (int i = 0; i < size; i++) {
+        sequences.set(i, i);
+      }
+      messages = new Object[size];
+      args1 = new Object[size];
+      args2 = new Object[size];
+      args3 = new Object[size];
+      argcs = new int[size];
+      throwables = new Throwable[size];
+    }//new
+
+    @Override public void warn (String msg, Throwable t) {
+      offer(msg, 0, RAW, null, null, t);
+    }
+
+    @Override public void warn (Supplier<String> msg, Throwable t) {
+      offer(msg, 0, null, null, null, t);
+    }
+
+    @Override public void warn (String template, Object arg1, Throwable t) {
+      offer(template, 1, arg1, null, null, t);
+    }
+
+    @Override public void warn (String template, Object arg1, Object arg2, Throwable t) {
+      offer(template, 2, arg1, arg2, null, t);
+    }
+
+    @Override public void warn (String template, Object arg1, Object arg2, Object arg3, Throwable t) {
+      offer(template, 3, arg1, arg2, arg3, t);
+    }
+
+    /** Never blocks: publishes the record or drops it if the buffer is full */
+    boolean offer (Object msg, int argc, Object arg1, Object arg2, Object arg3, Throwable t) {
+      long pos = tail.get();
+      while (true) {
+        int i = (int) pos & mask;
+        long dif = sequences.get(i) - pos;
+        if (dif == 0) {
+          if (tail.compareAndSet(pos, pos + 1)) {
+            try {
+              messages[i] = msg;
+              argcs[i] = argc;
+              args1[i] = argc > 0 ? snapshot(arg1) : arg1;
+              args2[i] = argc > 1 ? snapshot(arg2) : arg2;
+              args3[i] = argc > 2 ? snapshot(arg3) : arg3;
+              throwables[i] = t;
+            } finally {
+              sequences.set(i, pos + 1);// publish (even if a toString() has failed: the slot is taken)
+            }
+            Drainer.schedule(this);
+            return true;
+          }
+          pos = tail.get();
+        } else if (dif < 0) {// full
+          dropped.incrementAndGet();
+          Drainer.schedule(this);
+          return false;
+        } else {// another producer took the slot
+          pos = tail.get();
+        }
+      }
+    }
+
+    /** Immutable arguments are kept as they are (and formatted on the drain thread), all others are formatted now:
+     they may change (e.g. reused MutableTuples) or not be thread-safe before the drain thread gets to them */
+    static Object snapshot (Object arg) {
+      if (arg == null || arg instanceof String || arg instanceof Number && arg.getClass().getName().startsWith("java.lang.")
+          || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum || arg instanceof Class || arg instanceof UUID) {
+        return arg;
+      }
+      try {
+        return arg.toString();
+      } catch (RuntimeException e) {
+        return arg.getClass().getName()+"@"+Integer.toHexString(System.identityHashCode(arg))+" (toString failed: "+e+")";
+      }
+    }
+
+    /** Consumes one record on the drain thread */
+    boolean poll () {
+      long pos = head;
+      int i = (int) pos & mask;
+      if (sequences.get(i) != pos + 1) {
+        return false;// empty
+      }
+      Object msg = messages[i];
+      int argc = argcs[i];
+      Object arg1 = args1[i];
+      Object arg2 = args2[i];
+      Object arg3 = args3[i];
+      Throwable t = throwables[i];
+      messages[i] = args1[i] = args2[i] = args3[i] = throwables[i] = null;
+      sequences.set(i, pos + mask + 1);// free for the next round
+
+      try {
+        if (msg instanceof Supplier) {
+          @SuppressWarnings("unchecked") Supplier<String> supplier = (Supplier<String>) msg;
+          delegate.warn(supplier.get(), t);
+        } else if (argc == 0) {
+          delegate.warn((String) msg, t);
+        } else {
+          delegate.warn(format((String) msg, argc, arg1, arg2, arg3), t);
+        }
+      } catch (Throwable ex) {
+        printToStdErr(loggerAppClassName, "async warn failed: "+msg, ex);
+      }
+      head = pos + 1;
+      return true;
+    }
+
+    /** Logs up to one buffer of records (so other loggers get their turn) and the dropped summary on the drain thread
+     @return true if there may be more records */
+    boolean drain () {
+      for (int n = 0; n <= mask; n++) {
+        if (!poll()) {
+          long d = dropped.getAndSet(0);
+          if (d > 0) {
+            try {
+              delegate.warn("Dropped "+d+" warning(s): async log buffer is full", null);
+            } catch (Throwable ex) {
+              printToStdErr(loggerAppClassName, "async warn failed: Dropped "+d, ex);
+            }
+          }
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean hasWork () {
+      long pos = head;
+      return sequences.get((int) pos & mask) == pos + 1 || dropped.get() > 0;
+    }
+
+    /** Waits until all warnings published before this call have been logged
+     @return false if they haven't been logged within timeoutMillis */
+    public boolean flush (long timeoutMillis) {
+      long target = tail.get();
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+      while (head - target < 0) {
+        if (System.nanoTime() - deadline >= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(100_000);
+      }
+      return true;
+    }
+  }//LambdaLogFacadeAsync
+
+  /**
+   The single daemon thread that logs the records of all {@link LambdaLogFacadeAsync} loggers.
+   Loggers with pending records are queued in {@link #scheduled}; the thread parks while it is empty.
+   */
+  static final class Drainer {
+    static final ConcurrentLinkedQueue<LambdaLogFacadeAsync> scheduled = new ConcurrentLinkedQueue<>();
+    static volatile boolean parked;
+    static final Thread thread = new Thread(Drainer::run, "jOOL-async-log");
+    static {
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    private Drainer () {
+    }//new
+
+    static void schedule (LambdaLogFacadeAsync logger) {
+      if (!logger.scheduled.get() && logger.scheduled.compareAndSet(false, true)) {
+        scheduled.offer(logger);
+        if (parked) {
+          LockSupport.unpark(thread);
+        }
+      }
+    }
+
+    static void run () {
+      while (true) {
+        LambdaLogFacadeAsync logger = scheduled.poll();
+        if (logger == null) {
+          parked = true;
+          if (scheduled.isEmpty()) {// re-check: schedule() has offered before reading parked
+            LockSupport.park(Drainer.class);
+          }
+          parked = false;
+          continue;
+        }
+        if (logger.drain()) {
+          scheduled.offer(logger);// more records: back of the line
+          continue;
+        }
+        logger.scheduled.set(false);
+        // a producer may have published after drain() but seen scheduled == true
+        if (logger.hasWork() && logger.scheduled.compareAndSet(false, true)) {
+          scheduled.offer(logger);
+        }
+      }
+    }
+  }//Drainer
+
   /** Method.setAccessible(true) makes invoke a little faster */
   private static Method setAccessible (Method method) {
     try { method.setAccessible(true); } catch (Throwable ignore) {}
@@ -0,0 +1,341 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * An open-addressing hash table from <code>long</code> keys to
+ * <code>long</code> accumulators with linear probing, whose storage is
+ * provided by subclasses (see {@link TableStorage}).
+ * <p>
+ * Slot <code>i</code> holds its key at index <code>2 * i</code> and its value
+ * at index <code>2 * i + 1</code>. A key of <code>0</code> marks an empty
+ * slot, so the actual key <code>0</code> is kept outside of the slots.
+ *
+ * @author Lukas Eder
+ */
+abstract class LongLongTable implements AutoCloseable {
+
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    private int               capacity;
+    private int               shift;
+    private int               size;
+    private boolean           hasZero;
+    private long              zeroValue;
+
+    LongLongTable(int expectedSize) {
+        capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /**
+     * Allocate storage for <code>longs</code> zeroed <code>long</code> values.
+     */
+    abstract void allocate(int longs);
+
+    abstract long get(int index);
+
+    abstract void set(int index, long value);
+
+    /**
+     * Release the storage. The table must not be used any longer.
+     */
+    @Override
+    public abstract void close();
+
+    final int size() {
+        return size;
+    }
+
+    final int capacity() {
+        return capacity;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * PHI) >>> shift);
+    }
+
+    /**
+     * Whether the key is contained in the table.
+     */
+    final boolean contains(long key) {
+        if (key == 0)
+            return hasZero;
+
+        int mask = capacity - 1;
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = get(i << 1);
+
+            if (k == key)
+                return true;
+            else if (k == 0)
+                return false;
+        }
+    }
+
+    /**
+     * Get the value of a key, or <code>absent</code>.
+     */
+    final long get(long key, long absent) {
+        if (key == 0)
+            return hasZero ? zeroValue : absent;
+
+        int mask = capacity - 1;
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = get(i << 1);
+
+            if (k == key)
+                return get((i << 1) + 1);
+            else if (k == 0)
+                return absent;
+        }
+    }
+
+    /**
+     * Set the value of a key.
+     */
+    final void put(long key, long value) {
+        merge(key, value, null);
+    }
+
+    /**
+     * Combine the value of a key with a new value, or set the new value if
+     * the key is absent (or if <code>op</code> is <code>null</code>).
+     */
+    final void merge(long key, long value, LongBinaryOperator op) {
+        if (key == 0) {
+            if (!hasZero) {
+                hasZero = true;
+                size++;
+                zeroValue = value;
+            }
+            else
+                zeroValue = op == null ? value : op.applyAsLong(zeroValue, value);
+
+            return;
+        }
+
+        int mask = capacity - 1;
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = get(i << 1);
+
+            if (k == key) {
+                set((i << 1) + 1, op == null ? value : op.applyAsLong(get((i << 1) + 1), value));
+                return;
+            }
+            else if (k == 0) {
+                set(i << 1, key);
+                set((i << 1) + 1, value);
+
+                // Keep the load factor at or below 0.5
+                if (++size > capacity >>> 1)
+                    resize();
+
+                return;
+            }
+        }
+    }
+
+    private void resize() {
+        int oldCapacity = capacity;
+        LongLongTable old = detach();
+
+        capacity <<= 1;
+        shift--;
+        size = hasZero ? 1 : 0;
+        allocate(capacity << 1);
+
+        for (int i = 0; i < oldCapacity; i++) {
+            long k = old.get(i << 1);
+
+            if (k != 0)
+                put(k, old.get((i << 1) + 1));
+        }
+
+        old.close();
+    }
+
+    /**
+     * A table owning the current storage, which is about to be replaced by
+     * {@link #allocate(int)}.
+     */
+    abstract LongLongTable detach();
+
+    /**
+     * A consumer of entries.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    final void forEach(EntryConsumer consumer) {
+        if (hasZero)
+            consumer.accept(0L, zeroValue);
+
+        for (int i = 0; i < capacity; i++) {
+            long k = get(i << 1);
+
+            if (k != 0)
+                consumer.accept(k, get((i << 1) + 1));
+        }
+    }
+
+    /**
+     * Merge all entries of another table into this one, closing the other
+     * table.
+     */
+    final LongLongTable merge(LongLongTable other, LongBinaryOperator op) {
+        other.forEach((k, v) -> merge(k, v, op));
+
+        other.close();
+        return this;
+    }
+
+    static final class Heap extends LongLongTable {
+        private long[] entries;
+
+        Heap(int expectedSize) {
+            super(expectedSize);
+            allocate(capacity() << 1);
+        }
+
+        private Heap(long[] entries) {
+            super(4);
+            this.entries = entries;
+        }
+
+        @Override
+        void allocate(int longs) {
+            entries = new long[longs];
+        }
+
+        @Override
+        long get(int index) {
+            return entries[index];
+        }
+
+        @Override
+        void set(int index, long value) {
+            entries[index] = value;
+        }
+
+        @Override
+        LongLongTable detach() {
+            return new Heap(entries);
+        }
+
+        @Override
+        public void close() {
+            entries = null;
+        }
+    }
+
+    static final class OffHeap extends LongLongTable {
+
+        /**
+         * <code>sun.misc.Unsafe.invokeCleaner(ByteBuffer)</code> (bound to the
+         * <code>Unsafe</code> instance), which frees a direct buffer's memory
+         * immediately, or <code>null</code> if it is not available.
+         */
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+
+            try {
+                Class<?> c = Class.forName("sun.misc.Unsafe");
+                Field f = c.getDeclaredField("theUnsafe");
+                f.setAccessible(true);
+                unsafe = f.get(null);
+                invokeCleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+            }
+
+            // No jdk.unsupported module, or a JDK without invokeCleaner():
+            // the memory is released when the buffer is garbage collected
+            catch (Exception | LinkageError e) {
+                unsafe = null;
+                invokeCleaner = null;
+            }
+
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        private ByteBuffer buffer;
+        private LongBuffer entries;
+
+        OffHeap(int expectedSize) {
+            super(expectedSize);
+            allocate(capacity() << 1);
+        }
+
+        private OffHeap(ByteBuffer buffer, LongBuffer entries) {
+            super(4);
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+
+        @Override
+        void allocate(int longs) {
+
+            // Direct buffers are zeroed on allocation
+            buffer = ByteBuffer.allocateDirect(longs << 3).order(ByteOrder.nativeOrder());
+            entries = buffer.asLongBuffer();
+        }
+
+        @Override
+        long get(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        void set(int index, long value) {
+            entries.put(index, value);
+        }
+
+        @Override
+        LongLongTable detach() {
+            return new OffHeap(buffer, entries);
+        }
+
+        @Override
+        public void close() {
+            ByteBuffer b = buffer;
+
+            // Subsequent access fails with a NullPointerException, rather
+            // than accessing freed memory
+            buffer = null;
+            entries = null;
+
+            if (b != null && INVOKE_CLEANER != null) {
+                try {
+                    INVOKE_CLEANER.invoke(UNSAFE, b);
+                }
+                catch (ReflectiveOperationException ignore) {}
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A compact open-addressing hash map from primitive <code>long</code> keys to
+ * non-<code>null</code> values, using linear probing on parallel arrays.
+ * <p>
+ * Unlike a <code>HashMap&lt;Long, V&gt;</code>, this map neither boxes keys
+ * nor allocates an entry per mapping, which matters for grouping or counting
+ * millions of keys.
+ *
+ * @author Lukas Eder
+ */
+final class LongObjectHashMap<V> {
+
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    private long[]            keys;
+    private Object[]          values;
+    private int               shift;
+    private int               size;
+
+    LongObjectHashMap() {
+        this(16);
+    }
+
+    LongObjectHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int index(long key) {
+        return (int) ((key * PHI) >>> shift);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int mask = keys.length - 1;
+
+        for (int i = index(key); values[i] != null; i = (i + 1) & mask)
+            if (keys[i] == key)
+                return (V) values[i];
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(long key, LongFunction<? extends V> function) {
+        int mask = keys.length - 1;
+        int i = index(key);
+
+        for (; values[i] != null; i = (i + 1) & mask)
+            if (keys[i] == key)
+                return (V) values[i];
+
+        V value = function.apply(key);
+        insert(i, key, value);
+        return value;
+    }
+
+    void put(long key, V value) {
+        int mask = keys.length - 1;
+        int i = index(key);
+
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+
+        insert(i, key, value);
+    }
+
+    private void insert(int i, long key, V value) {
+        if (value == null)
+            throw new NullPointerException("Values must not be null");
+
+        keys[i] = key;
+        values[i] = value;
+
+        // Keep the load factor at or below 0.5
+        if (++size > keys.length >>> 1)
+            resize();
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new long[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        shift--;
+
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = index(oldKeys[j]);
+
+                while (values[i] != null)
+                    i = (i + 1) & mask;
+
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(ObjLongConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++)
+            if (values[i] != null)
+                action.accept((V) values[i], keys[i]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((v, k) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+        return sb.append('}').toString();
+    }
+}
@@ -2,10 +2,14 @@ package org.jooq.lambda;
 
 import org.jooq.lambda.tuple.Tuple4;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LongSummaryStatistics;
+import java.util.Optional;
+import java.util.Spliterator;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
@@ -13,6 +17,8 @@ import java.util.function.IntUnaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /** External lambda "for"-loops. */
 public class Loops {
@@ -72,11 +78,49 @@ public class Loops {
     }
   }
 
-  // Ad-Hoc JMH (not for serious benchmarks)
+  /**
+   Permutation with repetition on a fork/join pool.
+   The index space is split by ranges of the linear index, every worker walks its range with its own {@link Incrementer} clone.
+   There is no ordering between combinations: use {@link #parallelFindFirst} if the first match matters.
+
+   @param maxExclusive every index rotates in range [0..maxExclusive[index])
+   @param loopBody receives a worker's Incrementer, must return boolean searchIsOver/found
+   @param pool pool to run the loop on, e.g. {@link ForkJoinPool#commonPool()}
+   @return searchIsOver/found
+   @see Incrementer#forLoop(Predicate)
+   */
+  public static boolean parallelForLoop (int[] maxExclusive, Predicate<Incrementer> loopBody, ForkJoinPool pool) {
+    return pool.submit(() -> new Incrementer(maxExclusive).stream(true).anyMatch(loopBody)).join();
+  }
+
+  /**
+   Permutation with repetition on a fork/join pool, keeping the total ordering of {@link Incrementer#forLoop(Predicate)}:
+   the result is the first matching index vector, even if a later one was found first by another worker.
+
+   @return index vector of the first combination for which loopBody returned true
+   */
+  public static Optional<int[]> parallelFindFirst (int[] maxExclusive, Predicate<Incrementer> loopBody, ForkJoinPool pool) {
+    return pool.submit(() -> new Incrementer(maxExclusive).stream(true)
+        .filter(loopBody)
+        .map(Incrementer::toArray)
+        .findFirst()).join();
+  }
+
+  // Ad-Hoc JMH (not for serious benchmarks), see Benchmark
+
+  /**
+   {@link Benchmark} with up to 1 second warm-up and 1 second measurement.
+   <pre>{@code
+   System.out.println(Loops.benchmark(bh -> bh.consume(Seq.range(0, 100).sum())));
+   }</pre>
+   */
+  public static Benchmark.Result benchmark (Consumer<Benchmark.Blackhole> body) {
+    return Benchmark.of(Duration.ofSeconds(1), Duration.ofSeconds(1)).run(body);
+  }
 
   static final long NANO = 1000_000_000L;
 
-  /** Similar to {@link #loop(long, Runnable)}, but with metrics */
+  /** Similar to {@link #loop(long, Runnable)}, but with metrics (two nanoTime calls per repetition: use {@link #benchmark} for fast bodies) */
   public static Tuple4<Long, LongSummaryStatistics, Exception, String> loopMeasured (long numberOfRepetitions, Runnable body) {
     LongSummaryStatistics st = new LongSummaryStatistics();
     Exception ex = null;
@@ -170,6 +214,40 @@ public class Loops {
       return count;
     }
 
+    /**
+     Number of all combinations = product of all maxExclusive.
+     @throws ArithmeticException if there are more than Long.MAX_VALUE combinations
+     */
+    public long size () {
+      long size = 1;
+      for (int i = 0, len = indexes.length; i < len; i++) {
+        size = Math.multiplyExact(size, maxAt(i));
+      }
+      return size;
+    }
+
+    /** Position of the current index vector in the order of {@link #incrementIndexVector()}: indexAt(0) is the least significant digit */
+    public long linearIndex () {
+      long linear = 0;
+      for (int i = indexes.length - 1; i >= 0; i--) {
+        linear = linear * maxAt(i) + indexes[i];
+      }
+      return linear;
+    }
+
+    /** Jumps to the index vector at the given linear position, as if incrementIndexVector was called linearIndex times from [0,0,…] */
+    public Incrementer linearIndex (long linearIndex) {
+      assert linearIndex >= 0 : "linearIndex must be >= 0, but "+linearIndex;
+
+      count = linearIndex;
+      for (int i = 0, len = indexes.length; i < len; i++) {
+        int max = maxAt(i);
+        indexes[i] = (int) (linearIndex % max);
+        linearIndex /= max;
+      }
+      return this;
+    }
+
 
     @Override public String toString () {
       return "Incrementer"+ Arrays.toString(indexes) +" @ "+getCount();
@@ -267,6 +345,76 @@ public class Loops {
     public Seq<Incrementer> seq () {
       return Seq.seq(this);
     }
+
+    /**
+     Splittable view of all combinations from the current index vector (inclusive) to the last one.
+     Splits by ranges of the {@link #linearIndex()}, every part walks its range with its own Incrementer clone,
+     which is passed to the action for every combination (so copy it with {@link #toArray()} to keep it).
+     This Incrementer is not modified.
+     */
+    public Spliterator<Incrementer> indexSpliterator () {
+      return new IndexSpliterator(clone(), linearIndex(), size());
+    }
+
+    /** @see #indexSpliterator() */
+    public Stream<Incrementer> stream (boolean parallel) {
+      return StreamSupport.stream(indexSpliterator(), parallel);
+    }
+
+    /** Copies of all index vectors from the current one (inclusive) to the last one */
+    public Seq<int[]> indexVectors () {
+      return Seq.seq(stream(false)).map(Incrementer::toArray);
+    }
+
+
+    private static final class IndexSpliterator implements Spliterator<Incrementer> {
+      private final Incrementer cursor;
+      private long position;
+      private final long fence;
+
+      IndexSpliterator (Incrementer cursor, long position, long fence) {
+        this.cursor = cursor;
+        this.position = position;
+        this.fence = fence;
+        cursor.linearIndex(position);
+      }//new
+
+      @Override public boolean tryAdvance (Consumer<? super Incrementer> action) {
+        if (position >= fence) {
+          return false;
+        }
+        if (position++ > cursor.count) {
+          cursor.incrementIndexVector();
+        }
+        action.accept(cursor);
+        return true;
+      }
+
+      @Override public void forEachRemaining (Consumer<? super Incrementer> action) {
+        while (tryAdvance(action)) {
+          // until fence
+        }
+      }
+
+      @Override public Spliterator<Incrementer> trySplit () {
+        long mid = position + ((fence - position) >>> 1);
+        if (mid <= position) {
+          return null;
+        }
+        Spliterator<Incrementer> prefix = new IndexSpliterator(cursor.clone(), position, mid);
+        position = mid;
+        cursor.linearIndex(mid);
+        return prefix;
+      }
+
+      @Override public long estimateSize () {
+        return fence - position;
+      }
+
+      @Override public int characteristics () {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+      }
+    }//IndexSpliterator
   }//Incrementer
 
 
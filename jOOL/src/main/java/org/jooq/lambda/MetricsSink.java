@@ -0,0 +1,55 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+/**
+ * A sink for {@link Seq} pipeline metrics.
+ * <p>
+ * Stage metrics are reported by {@link Seq#instrumented(String, MetricsSink)}
+ * points in a pipeline. Buffer metrics are reported by buffering operators
+ * (e.g. {@link Seq#duplicate()}, {@link Seq#grouped(java.util.function.Function)},
+ * {@link Seq#partition(java.util.function.Predicate)}, joins and window functions) to the sink
+ * registered with {@link SeqMetrics#sink(MetricsSink)}.
+ * <p>
+ * Implementations must be thread-safe if they're used by concurrently consumed
+ * streams.
+ *
+ * @author Lukas Eder
+ */
+public interface MetricsSink {
+
+    /**
+     * Report the metrics of an instrumented stage, once, when the stage is
+     * exhausted or closed.
+     *
+     * @param stage The stage name.
+     * @param elements The number of elements that have passed the stage.
+     * @param nanos The time spent upstream of the stage, i.e. in this stage
+     *            and all preceding ones, excluding the time spent downstream.
+     */
+    default void stage(String stage, long elements, long nanos) {}
+
+    /**
+     * Report the high-water mark of a buffer, when the buffered stream is
+     * exhausted.
+     *
+     * @param buffer The buffering operation, e.g. <code>"duplicate"</code>,
+     *            <code>"innerJoin"</code>, <code>"grouped"</code>.
+     * @param highWaterMark The maximum number of elements that were buffered
+     *            at the same time (per class or partition, if applicable).
+     */
+    default void buffer(String buffer, long highWaterMark) {}
+}
@@ -15,29 +15,186 @@
  */
 package org.jooq.lambda;
 
-import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.jooq.lambda.tuple.Tuple.tuple;
 
 /**
+ * The rows of a window partition, stored as parallel arrays of values and
+ * their indexes in the original stream.
+ * <p>
+ * Columns extracted from the values by user functions are cached per function
+ * instance, such that a function that is applied to many frames is applied
+ * once per row and partition, not once per row and frame.
+ *
  * @author Lukas Eder
  */
 class Partition<T> {
+
+    private static final int  MAX_SEEN = 16;
+
+    final T[]                 values;
+    final long[]              indexes;
+    final int                 size;
+    final Map<Object, Object> cache;
+
+    // Column keys that have been requested once, see useColumn()
+    private final Set<Object> seen;
     
-    final List<Tuple2<T, Long>> list;
-    final Map<Object, Object>   cache;
-    
-    Partition(Collection<Tuple2<T, Long>> list) {
-        this.list = list instanceof ArrayList ? (List<Tuple2<T, Long>>) list : new ArrayList<>(list);
+    @SuppressWarnings("unchecked")
+    Partition(Collection<ObjLongTuple2<T>> list) {
+        this.size = list.size();
+        this.values = (T[]) new Object[size];
+        this.indexes = new long[size];
         this.cache = new HashMap<>();
+        this.seen = new HashSet<>();
+
+        int i = 0;
+        for (ObjLongTuple2<T> t : list) {
+            values[i] = t.v1;
+            indexes[i] = t.v2;
+            i++;
+        }
     }
-    
+
+    /**
+     * The position of a row in this partition, given the partition's
+     * ordering, or <code>(-(insertion point) - 1)</code> if the row is absent.
+     */
+    int indexOf(T value, long index, Comparator<? super T> order) {
+        if (order == null)
+            return Arrays.binarySearch(indexes, 0, size, index);
+
+        int lo = 0;
+        int hi = size - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = order.compare(values[mid], value);
+
+            if (c == 0)
+                c = Long.compare(indexes[mid], index);
+
+            if (c < 0)
+                lo = mid + 1;
+            else if (c > 0)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+
+        return -(lo + 1);
+    }
+
+    Seq<T> window(int fromIndex, int toIndex) {
+        return Seq.seq(values, fromIndex, toIndex);
+    }
+
+    <U> Seq<U> window(Function<? super T, ? extends U> function, int fromIndex, int toIndex) {
+        Object key = tuple("column", function);
+
+        if (!useColumn(key))
+            return window(fromIndex, toIndex).map(function);
+
+        return Seq.seq(cache(key, () -> {
+            @SuppressWarnings("unchecked")
+            U[] result = (U[]) new Object[size];
+
+            for (int i = 0; i < size; i++)
+                result[i] = function.apply(values[i]);
+
+            return result;
+        }), fromIndex, toIndex);
+    }
+
+    IntStream intWindow(ToIntFunction<? super T> function, int fromIndex, int toIndex) {
+        Object key = tuple("intColumn", function);
+
+        if (!useColumn(key))
+            return Arrays.stream(values, fromIndex, toIndex).mapToInt(function);
+
+        return Arrays.stream(cache(key, () -> {
+            int[] result = new int[size];
+
+            for (int i = 0; i < size; i++)
+                result[i] = function.applyAsInt(values[i]);
+
+            return result;
+        }), fromIndex, toIndex);
+    }
+
+    LongStream longWindow(ToLongFunction<? super T> function, int fromIndex, int toIndex) {
+        Object key = tuple("longColumn", function);
+
+        if (!useColumn(key))
+            return Arrays.stream(values, fromIndex, toIndex).mapToLong(function);
+
+        return Arrays.stream(cache(key, () -> {
+            long[] result = new long[size];
+
+            for (int i = 0; i < size; i++)
+                result[i] = function.applyAsLong(values[i]);
+
+            return result;
+        }), fromIndex, toIndex);
+    }
+
+    DoubleStream doubleWindow(ToDoubleFunction<? super T> function, int fromIndex, int toIndex) {
+        Object key = tuple("doubleColumn", function);
+
+        if (!useColumn(key))
+            return Arrays.stream(values, fromIndex, toIndex).mapToDouble(function);
+
+        return Arrays.stream(cache(key, () -> {
+            double[] result = new double[size];
+
+            for (int i = 0; i < size; i++)
+                result[i] = function.applyAsDouble(values[i]);
+
+            return result;
+        }), fromIndex, toIndex);
+    }
+
+    /**
+     * Whether to materialise (or reuse) a column for all rows, rather than
+     * applying a function to the rows of a single frame only.
+     * <p>
+     * A column is only worth its cost if the same function instance is
+     * applied to several frames. Capturing lambdas may produce a new instance
+     * per row, so a column is only created when a function instance is seen
+     * the second time. The set of instances seen only once is bounded.
+     */
+    private boolean useColumn(Object key) {
+        if (cache.containsKey(key))
+            return true;
+
+        if (seen.remove(key))
+            return true;
+
+        if (seen.size() >= MAX_SEEN)
+            seen.clear();
+
+        seen.add(key);
+        return false;
+    }
+
     <R> R cacheIf(boolean condition, Object key, Supplier<? extends R> value) {
         return cacheIf(() -> condition, () -> key, value);
     }
@@ -66,6 +223,16 @@ class Partition<T> {
   
     @SuppressWarnings("unchecked")
     <R> R cache(Supplier<?> key, Supplier<? extends R> value) {
-        return (R) cache.computeIfAbsent(key.get(), k -> value.get());
+        Object k = key.get();
+        R result = (R) cache.get(k);
+
+        // Not computeIfAbsent(), as values may themselves be computed from
+        // cached columns
+        if (result == null) {
+            result = value.get();
+            cache.put(k, result);
+        }
+
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package org.jooq.lambda;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ Immutable retry policy for {@link Wrap#retrying}: up to maxAttempts attempts with exponential backoff and "full jitter".
+ The n-th retry waits a random time between 0 and min(maxDelay, initialDelay * multiplier^(n-1)),
+ so that many clients failing at the same time don't retry in lockstep.
+ <br>
+ {@link Error}s and {@link InterruptedException}s are never retried.
+
+ @author Andrej Fink
+ */
+public final class RetryPolicy {
+  final int maxAttempts;
+  final long initialDelayNanos;
+  final long maxDelayNanos;
+  final double multiplier;
+  final Predicate<? super Throwable> retryOn;
+
+  private RetryPolicy (int maxAttempts, long initialDelayNanos, long maxDelayNanos, double multiplier, Predicate<? super Throwable> retryOn) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be positive: "+maxAttempts);
+    }
+    if (initialDelayNanos < 0 || maxDelayNanos < 0) {
+      throw new IllegalArgumentException("Delays must not be negative: "+initialDelayNanos+", "+maxDelayNanos);
+    }
+    if (!(multiplier >= 1)) {
+      throw new IllegalArgumentException("multiplier must be >= 1: "+multiplier);
+    }
+    this.maxAttempts = maxAttempts;
+    this.initialDelayNanos = initialDelayNanos;
+    this.maxDelayNanos = maxDelayNanos;
+    this.multiplier = multiplier;
+    this.retryOn = Objects.requireNonNull(retryOn, "retryOn");
+  }//new
+
+
+  /** maxAttempts (including the first one) with delays doubling from initialDelay up to maxDelay */
+  public static RetryPolicy of (int maxAttempts, Duration initialDelay, Duration maxDelay) {
+    return new RetryPolicy(maxAttempts, initialDelay.toNanos(), maxDelay.toNanos(), 2, t -> true);
+  }
+
+  /** maxAttempts (including the first one) without delays */
+  public static RetryPolicy immediate (int maxAttempts) {
+    return new RetryPolicy(maxAttempts, 0, 0, 1, t -> true);
+  }
+
+  public RetryPolicy withMultiplier (double multiplier) {
+    return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, retryOn);
+  }
+
+  /** Retry only failures matching the predicate, e.g. RetryPolicy.of(…).retryOn(t -&gt; t instanceof IOException) */
+  public RetryPolicy retryOn (Predicate<? super Throwable> retryOn) {
+    return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, retryOn);
+  }
+
+
+  /** Full jitter backoff before the given retry (1 = first retry, i.e. second attempt) */
+  long delayNanos (int retry) {
+    double cap = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, retry - 1));
+    return (long) (ThreadLocalRandom.current().nextDouble() * cap);
+  }
+
+  /** Called after a failed attempt: waits before the next one and returns true, or returns false if the failure is final */
+  boolean awaitRetry (Throwable t, int attempt) {
+    if (attempt >= maxAttempts || t instanceof Error || t instanceof InterruptedException || !retryOn.test(t)) {
+      Wrap.handleInterruptedException(t);
+      return false;
+    }
+    long delay = delayNanos(attempt);
+    if (delay > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException ie) {
+        Wrap.handleInterruptedException(ie);
+        return false;
+      }
+    }
+    return true;
+  }
+
+
+  @Override public String toString () {
+    return "RetryPolicy(maxAttempts="+maxAttempts+", initialDelay="+Duration.ofNanos(initialDelayNanos)
+        +", maxDelay="+Duration.ofNanos(maxDelayNanos)+", multiplier="+multiplier+")";
+  }
+}
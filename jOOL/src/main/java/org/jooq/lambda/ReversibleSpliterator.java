@@ -0,0 +1,301 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * A <code>Spliterator</code> over a source that can be traversed backwards
+ * without buffering it first, such as an array, a <code>List</code>, a
+ * <code>Deque</code> or an arithmetic range.
+ * <p>
+ * {@link Seq#reverse(Seq)} checks for this type on the source spliterator of a
+ * <code>Seq</code> and falls back to buffering if it's absent or if
+ * {@link #reverse()} returns <code>null</code>.
+ *
+ * @author Lukas Eder
+ */
+abstract class ReversibleSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * A <code>Spliterator</code> over the remaining elements in reverse order,
+     * or <code>null</code> if the remaining elements cannot be reversed without
+     * buffering.
+     * <p>
+     * This spliterator must not be used any longer after a call to this method.
+     */
+    abstract Spliterator<T> reverse();
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    static <T> ReversibleSpliterator<T> of(T[] array) {
+        return of(array, 0, array.length);
+    }
+
+    static <T> ReversibleSpliterator<T> of(T[] array, int fromIndex, int toIndex) {
+        return new ArraySpliterator<>(array, fromIndex, toIndex, false);
+    }
+
+    static <T> ReversibleSpliterator<T> of(List<T> list) {
+        return new ListSpliterator<>(list, list.listIterator(), 0, Integer.MAX_VALUE, false);
+    }
+
+    static <T> ReversibleSpliterator<T> of(Deque<T> deque) {
+        return new DequeSpliterator<>(deque, deque.iterator(), false);
+    }
+
+    /**
+     * An arithmetic range from <code>first</code> to <code>last</code>
+     * (inclusive), with a positive <code>step</code>, where
+     * <code>last</code> is not necessarily aligned with <code>step</code>.
+     */
+    static <T> ReversibleSpliterator<T> range(long first, long last, long step, LongFunction<T> box) {
+        return new RangeSpliterator<>(first, first + Long.divideUnsigned(last - first, step) * step, step, box);
+    }
+
+    private static final class ArraySpliterator<T> extends ReversibleSpliterator<T> {
+        private final T[]     array;
+        private final boolean backwards;
+
+        // Remaining elements are those at [index, fence) if !backwards or at
+        // [fence, index) if backwards
+        private int           index;
+        private final int     fence;
+
+        ArraySpliterator(T[] array, int index, int fence, boolean backwards) {
+            if (!backwards && (index < 0 || fence > array.length || index > fence))
+                throw new ArrayIndexOutOfBoundsException("Index: " + index + ", fence: " + fence + ", length: " + array.length);
+
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+            this.backwards = backwards;
+        }
+
+        @Override
+        Spliterator<T> reverse() {
+            return new ArraySpliterator<>(array, fence, index, !backwards);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (backwards ? index <= fence : index >= fence)
+                return false;
+
+            action.accept(backwards ? array[--index] : array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int i = index;
+            index = fence;
+
+            if (backwards)
+                for (; i > fence; i--)
+                    action.accept(array[i - 1]);
+            else
+                for (; i < fence; i++)
+                    action.accept(array[i]);
+        }
+
+        @Override
+        public long estimateSize() {
+            return backwards ? index - fence : fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+
+    private static final class ListSpliterator<T> extends ReversibleSpliterator<T> {
+        private final List<T>         list;
+        private final ListIterator<T> iterator;
+        private final boolean         backwards;
+
+        // Bounds of the list index space that this spliterator may visit
+        private final int             lo;
+        private final int             hi;
+
+        ListSpliterator(List<T> list, ListIterator<T> iterator, int lo, int hi, boolean backwards) {
+            this.list = list;
+            this.iterator = iterator;
+            this.lo = lo;
+            this.hi = hi;
+            this.backwards = backwards;
+        }
+
+        @Override
+        Spliterator<T> reverse() {
+            if (backwards) {
+                int index = iterator.nextIndex();
+                return new ListSpliterator<>(list, list.listIterator(lo), lo, index, false);
+            }
+            else {
+                int index = Math.min(hi, list.size());
+                return new ListSpliterator<>(list, list.listIterator(index), iterator.nextIndex(), index, true);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (backwards) {
+                if (!iterator.hasPrevious() || iterator.previousIndex() < lo)
+                    return false;
+
+                action.accept(iterator.previous());
+            }
+            else {
+                if (!iterator.hasNext() || iterator.nextIndex() >= hi)
+                    return false;
+
+                action.accept(iterator.next());
+            }
+
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+
+    private static final class DequeSpliterator<T> extends ReversibleSpliterator<T> {
+        private final Deque<T>    deque;
+        private final Iterator<T> iterator;
+        private final boolean     backwards;
+        private boolean           advanced;
+
+        DequeSpliterator(Deque<T> deque, Iterator<T> iterator, boolean backwards) {
+            this.deque = deque;
+            this.iterator = iterator;
+            this.backwards = backwards;
+        }
+
+        @Override
+        Spliterator<T> reverse() {
+
+            // A Deque iterator doesn't know its position, so only an untouched
+            // iterator can be reversed
+            if (advanced)
+                return null;
+
+            return backwards
+                 ? new DequeSpliterator<>(deque, deque.iterator(), false)
+                 : new DequeSpliterator<>(deque, deque.descendingIterator(), true);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!iterator.hasNext())
+                return false;
+
+            advanced = true;
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED;
+        }
+    }
+
+    private static final class RangeSpliterator<T> extends ReversibleSpliterator<T> {
+        private final LongFunction<T> box;
+        private final long            last;
+        private final long            step;
+        private final int             characteristics;
+        private long                  next;
+        private boolean               done;
+
+        RangeSpliterator(long next, long last, long step, LongFunction<T> box) {
+            this.next = next;
+            this.last = last;
+            this.step = step;
+            this.box = box;
+            this.characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE | (estimateSize() < Long.MAX_VALUE ? SIZED | SUBSIZED : 0);
+        }
+
+        @Override
+        Spliterator<T> reverse() {
+            if (done)
+                return Spliterators.emptySpliterator();
+
+            // All arithmetic wraps around consistently, so a reversed range
+            // is just a range with a negated step
+            RangeSpliterator<T> result = new RangeSpliterator<>(last, next, -step, box);
+            done = true;
+            return result;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done)
+                return false;
+
+            long value = next;
+            if (value == last)
+                done = true;
+            else
+                next = value + step;
+
+            action.accept(box.apply(value));
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (done)
+                return 0L;
+
+            long steps = step > 0
+                ? Long.divideUnsigned(last - next, step)
+                : Long.divideUnsigned(next - last, -step);
+
+            // The number of elements overflows if the range covers all longs
+            return steps >= 0 && steps < Long.MAX_VALUE ? steps + 1 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+}
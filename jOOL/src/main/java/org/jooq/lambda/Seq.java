@@ -15,7 +15,9 @@
  */
 package org.jooq.lambda;
 
+import org.jooq.lambda.exception.BufferLimitExceededException;
 import org.jooq.lambda.exception.TooManyElementsException;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
 import org.jooq.lambda.function.Function10;
 import org.jooq.lambda.function.Function11;
 import org.jooq.lambda.function.Function12;
@@ -30,6 +32,22 @@ import org.jooq.lambda.function.Function6;
 import org.jooq.lambda.function.Function7;
 import org.jooq.lambda.function.Function8;
 import org.jooq.lambda.function.Function9;
+import org.jooq.lambda.tuple.MutableTuple10;
+import org.jooq.lambda.tuple.MutableTuple11;
+import org.jooq.lambda.tuple.MutableTuple12;
+import org.jooq.lambda.tuple.MutableTuple13;
+import org.jooq.lambda.tuple.MutableTuple14;
+import org.jooq.lambda.tuple.MutableTuple15;
+import org.jooq.lambda.tuple.MutableTuple16;
+import org.jooq.lambda.tuple.MutableTuple2;
+import org.jooq.lambda.tuple.MutableTuple3;
+import org.jooq.lambda.tuple.MutableTuple4;
+import org.jooq.lambda.tuple.MutableTuple5;
+import org.jooq.lambda.tuple.MutableTuple6;
+import org.jooq.lambda.tuple.MutableTuple7;
+import org.jooq.lambda.tuple.MutableTuple8;
+import org.jooq.lambda.tuple.MutableTuple9;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple1;
 import org.jooq.lambda.tuple.Tuple10;
@@ -56,28 +74,30 @@ import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
-import java.util.Queue;
 import java.util.Random;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -198,6 +218,51 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return Seq.crossJoin(this, other);
     }
 
+    /**
+     * Cross join 2 streams into one, reusing a single {@link MutableTuple2}
+     * for all elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(1, "b"), tuple(2, "a"), tuple(2, "b"))
+     * Seq.of(1, 2).crossJoinReusing(Seq.of("a", "b")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #crossJoinReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> crossJoinReusing(Stream<? extends U> other) {
+        return Seq.crossJoinReusing(this, seq(other));
+    }
+
+    /**
+     * Cross join 2 streams into one, reusing a single {@link MutableTuple2}
+     * for all elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(1, "b"), tuple(2, "a"), tuple(2, "b"))
+     * Seq.of(1, 2).crossJoinReusing(Seq.of("a", "b")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #crossJoinReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> crossJoinReusing(Iterable<? extends U> other) {
+        return Seq.crossJoinReusing(this, seq(other));
+    }
+
+    /**
+     * Cross join 2 streams into one, reusing a single {@link MutableTuple2}
+     * for all elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(1, "b"), tuple(2, "a"), tuple(2, "b"))
+     * Seq.of(1, 2).crossJoinReusing(Seq.of("a", "b")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #crossJoinReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> crossJoinReusing(Seq<? extends U> other) {
+        return Seq.crossJoinReusing(this, other);
+    }
+
     /**
      * Cross join stream with itself into one.
      * <p>
@@ -207,7 +272,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     default Seq<Tuple2<T, T>> crossSelfJoin() {
-        SeqBuffer<T> buffer = SeqBuffer.of(this);
+        SeqBuffer<T> buffer = SeqBuffer.of(this, "crossSelfJoin");
         return crossJoin(buffer.seq(), buffer.seq());
     }
 
@@ -246,7 +311,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     default <U> Seq<Tuple2<T, U>> innerJoin(Seq<? extends U> other, BiPredicate<? super T, ? super U> predicate) {
 
         // This algorithm has substantial complexity for large argument streams!
-        SeqBuffer<? extends U> buffer = SeqBuffer.of(other);
+        SeqBuffer<? extends U> buffer = SeqBuffer.of(other, "innerJoin");
 
         return flatMap(t -> buffer.seq()
                            .filter(u -> predicate.test(t, u))
@@ -263,7 +328,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     default Seq<Tuple2<T, T>> innerSelfJoin(BiPredicate<? super T, ? super T> predicate) {
-        SeqBuffer<T> buffer = SeqBuffer.of(this);
+        SeqBuffer<T> buffer = SeqBuffer.of(this, "innerSelfJoin");
         return buffer.seq().innerJoin(buffer.seq(), predicate);
     }
 
@@ -302,7 +367,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     default <U> Seq<Tuple2<T, U>> leftOuterJoin(Seq<? extends U> other, BiPredicate<? super T, ? super U> predicate) {
 
         // This algorithm has substantial complexity for large argument streams!
-        SeqBuffer<? extends U> buffer = SeqBuffer.of(other);
+        SeqBuffer<? extends U> buffer = SeqBuffer.of(other, "leftOuterJoin");
 
         return flatMap(t -> buffer.seq()
                            .filter(u -> predicate.test(t, u))
@@ -320,7 +385,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     default Seq<Tuple2<T, T>> leftOuterSelfJoin(BiPredicate<? super T, ? super T> predicate) {
-        SeqBuffer<T> buffer = SeqBuffer.of(this);
+        SeqBuffer<T> buffer = SeqBuffer.of(this, "leftOuterSelfJoin");
         return buffer.seq().leftOuterJoin(buffer.seq(), predicate);
     }
 
@@ -1103,6 +1168,51 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return zip(this, other, zipper);
     }
 
+    /**
+     * Zip two streams into one, reusing a single {@link MutableTuple2} for all
+     * elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(2, "b"), tuple(3, "c"))
+     * Seq.of(1, 2, 3).zipReusing(Seq.of("a", "b", "c")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #zipReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> zipReusing(Stream<? extends U> other) {
+        return zipReusing(this, seq(other));
+    }
+
+    /**
+     * Zip two streams into one, reusing a single {@link MutableTuple2} for all
+     * elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(2, "b"), tuple(3, "c"))
+     * Seq.of(1, 2, 3).zipReusing(Seq.of("a", "b", "c")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #zipReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> zipReusing(Iterable<? extends U> other) {
+        return zipReusing(this, seq(other));
+    }
+
+    /**
+     * Zip two streams into one, reusing a single {@link MutableTuple2} for all
+     * elements.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(2, "b"), tuple(3, "c"))
+     * Seq.of(1, 2, 3).zipReusing(Seq.of("a", "b", "c")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #zipReusing(Seq, Seq)
+     */
+    default <U> Seq<MutableTuple2<T, U>> zipReusing(Seq<? extends U> other) {
+        return zipReusing(this, other);
+    }
+
     // [jooq-tools] START [zip-all-static]
 
     /**
@@ -3085,6 +3195,36 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return zipWithIndex(this, zipper);
     }
 
+    /**
+     * Zip a Stream with a corresponding Stream of indexes, reusing a single
+     * {@link MutableTuple2} for all elements.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithIndexReusing().map(MutableTuple2::toTuple)
+     * </code></pre>
+     *
+     * @see #zipWithIndexReusing(Seq)
+     */
+    default Seq<MutableTuple2<T, Long>> zipWithIndexReusing() {
+        return zipWithIndexReusing(this);
+    }
+
+    /**
+     * Zip a Stream with a corresponding Stream of unboxed <code>long</code>
+     * indexes.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithLongIndex()
+     * </code></pre>
+     *
+     * @see #zipWithLongIndex(Seq)
+     */
+    default Seq<ObjLongTuple2<T>> zipWithLongIndex() {
+        return zipWithLongIndex(this);
+    }
+
     /**
      * Fold a Stream to the left.
      * <p>
@@ -3349,6 +3489,57 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return grouped(this, classifier, downstream);
     }
 
+    /**
+     * Classify this stream's elements according to a given classifier
+     * function, buffering at most <code>bufferLimit</code> elements per class.
+     * <p>
+     * Elements of a class are buffered while the consumer reads other classes.
+     * If a class's buffer would exceed the limit, a
+     * {@link BufferLimitExceededException} is thrown rather than buffering the
+     * whole stream.
+     *
+     * @see #grouped(Function)
+     */
+    default <K> Seq<Tuple2<K, Seq<T>>> grouped(Function<? super T, ? extends K> classifier, int bufferLimit) {
+        return grouped(this, classifier, bufferLimit);
+    }
+
+    /**
+     * Classify this stream's elements according to a given classifier
+     * function, assuming that elements of the same class are contiguous.
+     * <p>
+     * <pre><code>
+     * // Seq(tuple(1, Seq(1, 3)), tuple(0, Seq(2, 4)), tuple(1, Seq(5)))
+     * Seq.of(1, 3, 2, 4, 5).groupedClustered(i -&gt; i % 2)
+     * </code></pre>
+     *
+     * Like a SQL <code>GROUP BY</code> on sorted input, each class is emitted
+     * as soon as its key changes, and no elements are buffered. A class's
+     * elements can only be read until the next class is requested. Any unread
+     * elements are skipped.
+     *
+     * @see #grouped(Function)
+     */
+    default <K> Seq<Tuple2<K, Seq<T>>> groupedClustered(Function<? super T, ? extends K> classifier) {
+        return groupedClustered(this, classifier);
+    }
+
+    /**
+     * Classify this stream's elements according to a given classifier function,
+     * assuming that elements of the same class are contiguous, and collect
+     * each class's elements using a collector.
+     * <p>
+     * <pre><code>
+     * // Seq(tuple(1, 4), tuple(0, 6), tuple(1, 5))
+     * Seq.of(1, 3, 2, 4, 5).groupedClustered(i -&gt; i % 2, Collectors.summingInt(i -&gt; i))
+     * </code></pre>
+     *
+     * @see #groupedClustered(Function)
+     */
+    default <K, A, D> Seq<Tuple2<K, D>> groupedClustered(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
+        return groupedClustered(this, classifier, downstream);
+    }
+
     /**
      * Partition a stream into two given a predicate.
      * <p>
@@ -3363,6 +3554,20 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return partition(this, predicate);
     }
 
+    /**
+     * Partition a stream into two given a predicate, buffering at most
+     * <code>bufferLimit</code> elements per partition.
+     * <p>
+     * If a partition's buffer would exceed the limit, a
+     * {@link BufferLimitExceededException} is thrown rather than buffering the
+     * whole stream.
+     *
+     * @see #partition(Predicate)
+     */
+    default Tuple2<Seq<T>, Seq<T>> partition(Predicate<? super T> predicate, int bufferLimit) {
+        return partition(this, predicate, bufferLimit);
+    }
+
     /**
      * Split a stream at a given position.
      * <p>
@@ -3464,6 +3669,70 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     default <U> Seq<U> cast(Class<? extends U> type) {
         return cast(this, type);
     }
+
+    /**
+     * Map all elements in a stream using a function that may throw, capturing
+     * each outcome in an {@link Either}.
+     * <p>
+     * <pre><code>
+     * // (success(1), failure(NumberFormatException), success(3))
+     * Seq.of("1", "a", "3").mapTry(Integer::parseInt)
+     * </code></pre>
+     *
+     * @see #mapTry(Stream, CheckedFunction)
+     * @see Agg#successesAndFailures()
+     */
+    default <R> Seq<Either<R>> mapTry(CheckedFunction<? super T, ? extends R> mapper) {
+        return mapTry(this, mapper);
+    }
+
+    /**
+     * Map all elements in a stream using a function that may throw, capturing
+     * each outcome in an {@link Either}, and stop pulling elements from the
+     * stream once <code>maxFailures</code> failures have been emitted.
+     * <p>
+     * <pre><code>
+     * // (success(1), failure(NumberFormatException))
+     * Seq.of("1", "a", "3", "b").mapTry(Integer::parseInt, 1)
+     * </code></pre>
+     *
+     * A <code>maxFailures</code> of <code>1</code> fails fast on the first
+     * failure.
+     *
+     * @see #mapTry(Stream, CheckedFunction, long)
+     */
+    default <R> Seq<Either<R>> mapTry(CheckedFunction<? super T, ? extends R> mapper, long maxFailures) {
+        return mapTry(this, mapper, maxFailures);
+    }
+
+    /**
+     * Instrument this stream at this point, reporting its metrics to the
+     * global {@link SeqMetrics#sink()}, if any.
+     *
+     * @see #instrumented(Stream, String)
+     */
+    default Seq<T> instrumented(String stage) {
+        return instrumented(this, stage);
+    }
+
+    /**
+     * Instrument this stream at this point, reporting its metrics to a
+     * {@link MetricsSink}.
+     * <p>
+     * <pre><code>
+     * // Reports ("window", 3, t1) and ("join", 2, t2), where t2 - t1 is
+     * // the time spent in innerJoin()
+     * Seq.of(1, 2, 3).window().map(w -&gt; w.rowNumber())
+     *    .instrumented("window", sink)
+     *    .innerJoin(Seq.of(0L, 1L), Objects::equals)
+     *    .instrumented("join", sink)
+     * </code></pre>
+     *
+     * @see #instrumented(Stream, String, MetricsSink)
+     */
+    default Seq<T> instrumented(String stage, MetricsSink sink) {
+        return instrumented(this, stage, sink);
+    }
     
     /**
      * Map this stream to a stream containing a sliding window over the previous stream.
@@ -3594,7 +3863,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     default Seq<Tuple1<Window<T>>> window(
         WindowSpecification<T> specification1
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
 
@@ -3613,7 +3882,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification1,
         WindowSpecification<T> specification2
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3635,7 +3904,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification2,
         WindowSpecification<T> specification3
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3660,7 +3929,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification3,
         WindowSpecification<T> specification4
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3688,7 +3957,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification4,
         WindowSpecification<T> specification5
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3719,7 +3988,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification5,
         WindowSpecification<T> specification6
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3753,7 +4022,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification6,
         WindowSpecification<T> specification7
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3790,7 +4059,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification7,
         WindowSpecification<T> specification8
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3830,7 +4099,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification8,
         WindowSpecification<T> specification9
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3873,7 +4142,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification9,
         WindowSpecification<T> specification10
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3919,7 +4188,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification10,
         WindowSpecification<T> specification11
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -3968,7 +4237,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification11,
         WindowSpecification<T> specification12
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -4020,7 +4289,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification12,
         WindowSpecification<T> specification13
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -4075,7 +4344,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification13,
         WindowSpecification<T> specification14
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -4133,7 +4402,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification14,
         WindowSpecification<T> specification15
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -4194,7 +4463,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         WindowSpecification<T> specification15,
         WindowSpecification<T> specification16
     ) {
-        List<Tuple2<T, Long>> buffer = zipWithIndex().toList();
+        List<ObjLongTuple2<T>> buffer = zipWithLongIndex().toList();
 
         Map<?, Partition<T>> partitions1 = SeqUtils.partitions(specification1, buffer);
         Map<?, Partition<T>> partitions2 = SeqUtils.partitions(specification2, buffer);
@@ -4264,6 +4533,38 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return collect(Collectors.groupingBy(classifier, mapFactory, downstream));
     }
 
+    /**
+     * Shortcut for calling {@link Stream#collect(Collector)} with a
+     * {@link Agg#groupingByInt(ToIntFunction, Collector)} collector.
+     */
+    default <A, D> Map<Integer, D> groupByInt(ToIntFunction<? super T> classifier, Collector<? super T, A, D> downstream) {
+        return collect(Agg.groupingByInt(classifier, downstream));
+    }
+
+    /**
+     * Shortcut for calling {@link Stream#collect(Collector)} with a
+     * {@link Agg#groupingByLong(ToLongFunction, Collector)} collector.
+     */
+    default <A, D> Map<Long, D> groupByLong(ToLongFunction<? super T> classifier, Collector<? super T, A, D> downstream) {
+        return collect(Agg.groupingByLong(classifier, downstream));
+    }
+
+    /**
+     * Shortcut for calling {@link Stream#collect(Collector)} with a
+     * {@link Agg#countDistinctByLong(ToLongFunction)} collector.
+     */
+    default long countDistinctByLong(ToLongFunction<? super T> function) {
+        return collect(Agg.countDistinctByLong(function));
+    }
+
+    /**
+     * Shortcut for calling {@link Stream#collect(Collector)} with a
+     * {@link Agg#modeByLong(ToLongFunction)} collector.
+     */
+    default Optional<T> modeByLong(ToLongFunction<? super T> function) {
+        return collect(Agg.modeByLong(function));
+    }
+
     /**
      * Shortcut for calling {@link Stream#collect(Collector)} with a
      * {@link Collectors#joining()}
@@ -4307,6 +4608,49 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return map(Objects::toString).collect(Collectors.joining(delimiter, prefix, suffix));
     }
 
+    /**
+     * Append all elements to an {@link Appendable}, e.g. a
+     * {@link StringBuilder} or a {@link java.io.Writer}, using a separator.
+     * <p>
+     * Unlike {@link #toString(CharSequence)}, this doesn't keep the elements'
+     * string representations in memory until the result is built.
+     * {@link IOException}'s thrown by the <code>Appendable</code> are wrapped
+     * by {@link UncheckedIOException}'s.
+     */
+    default <A extends Appendable> A joinTo(A appendable, CharSequence delimiter) {
+        return joinTo(appendable, delimiter, "", "");
+    }
+
+    /**
+     * Append all elements to an {@link Appendable}, e.g. a
+     * {@link StringBuilder} or a {@link java.io.Writer}, using a separator,
+     * a prefix, and a suffix.
+     * <p>
+     * Unlike {@link #toString(CharSequence, CharSequence, CharSequence)}, this
+     * doesn't keep the elements' string representations in memory until the
+     * result is built. {@link IOException}'s thrown by the
+     * <code>Appendable</code> are wrapped by {@link UncheckedIOException}'s.
+     */
+    default <A extends Appendable> A joinTo(A appendable, CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        try {
+            appendable.append(prefix);
+
+            Iterator<T> it = iterator();
+            if (it.hasNext()) {
+                appendable.append(Objects.toString(it.next()));
+
+                while (it.hasNext())
+                    appendable.append(delimiter).append(Objects.toString(it.next()));
+            }
+
+            appendable.append(suffix);
+            return appendable;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * @see Stream#of(Object)
      */
@@ -4320,7 +4664,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     @SafeVarargs
     @SuppressWarnings("varargs") // Creating a stream from an array is safe
     static <T> Seq<T> of(T... values) {
-        return values == null ? empty() : seq(Stream.of(values));
+        return values == null ? empty() : seq(ReversibleSpliterator.of(values));
     }
 
     /**
@@ -4341,7 +4685,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Byte> range(byte fromInclusive, byte toExclusive, int step) {
-        return toExclusive <= fromInclusive ? empty() : iterate(fromInclusive, t -> Byte.valueOf((byte) (t + step))).limitWhile(t -> t < toExclusive);
+        return toExclusive <= fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toExclusive - 1, step, v -> Byte.valueOf((byte) v)))
+             : iterate(fromInclusive, t -> Byte.valueOf((byte) (t + step))).limitWhile(t -> t < toExclusive);
     }
 
     /**
@@ -4362,7 +4710,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Short> range(short fromInclusive, short toExclusive, int step) {
-        return toExclusive <= fromInclusive ? empty() : iterate(fromInclusive, t -> Short.valueOf((short) (t + step))).limitWhile(t -> t < toExclusive);
+        return toExclusive <= fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toExclusive - 1, step, v -> Short.valueOf((short) v)))
+             : iterate(fromInclusive, t -> Short.valueOf((short) (t + step))).limitWhile(t -> t < toExclusive);
     }
 
     /**
@@ -4383,7 +4735,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Character> range(char fromInclusive, char toExclusive, int step) {
-        return toExclusive <= fromInclusive ? empty() : iterate(fromInclusive, t -> Character.valueOf((char) (t + step))).limitWhile(t -> t < toExclusive);
+        return toExclusive <= fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toExclusive - 1, step, v -> Character.valueOf((char) v)))
+             : iterate(fromInclusive, t -> Character.valueOf((char) (t + step))).limitWhile(t -> t < toExclusive);
     }
 
     /**
@@ -4404,7 +4760,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Integer> range(int fromInclusive, int toExclusive, int step) {
-        return toExclusive <= fromInclusive ? empty() : iterate(fromInclusive, t -> Integer.valueOf(t + step)).limitWhile(t -> t < toExclusive);
+        return toExclusive <= fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toExclusive - 1, step, v -> Integer.valueOf((int) v)))
+             : iterate(fromInclusive, t -> Integer.valueOf(t + step)).limitWhile(t -> t < toExclusive);
     }
 
     /**
@@ -4425,7 +4785,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Long> range(long fromInclusive, long toExclusive, long step) {
-        return toExclusive <= fromInclusive ? empty() : iterate(fromInclusive, t -> Long.valueOf(t + step)).limitWhile(t -> t < toExclusive);
+        return toExclusive <= fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toExclusive - 1, step, v -> Long.valueOf(v)))
+             : iterate(fromInclusive, t -> Long.valueOf(t + step)).limitWhile(t -> t < toExclusive);
     }
 
     /**
@@ -4467,7 +4831,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Byte> rangeClosed(byte fromInclusive, byte toInclusive, int step) {
-        return toInclusive < fromInclusive ? empty() : iterate(fromInclusive, t -> Byte.valueOf((byte) (t + step))).limitWhile(t -> t <= toInclusive);
+        return toInclusive < fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toInclusive, step, v -> Byte.valueOf((byte) v)))
+             : iterate(fromInclusive, t -> Byte.valueOf((byte) (t + step))).limitWhile(t -> t <= toInclusive);
     }
 
     /**
@@ -4488,7 +4856,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Short> rangeClosed(short fromInclusive, short toInclusive, int step) {
-        return toInclusive < fromInclusive ? empty() : iterate(fromInclusive, t -> Short.valueOf((short) (t + step))).limitWhile(t -> t <= toInclusive);
+        return toInclusive < fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toInclusive, step, v -> Short.valueOf((short) v)))
+             : iterate(fromInclusive, t -> Short.valueOf((short) (t + step))).limitWhile(t -> t <= toInclusive);
     }
 
     /**
@@ -4509,7 +4881,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Character> rangeClosed(char fromInclusive, char toInclusive, int step) {
-        return toInclusive < fromInclusive ? empty() : iterate(fromInclusive, t -> Character.valueOf((char) (t + step))).limitWhile(t -> t <= toInclusive);
+        return toInclusive < fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toInclusive, step, v -> Character.valueOf((char) v)))
+             : iterate(fromInclusive, t -> Character.valueOf((char) (t + step))).limitWhile(t -> t <= toInclusive);
     }
 
     /**
@@ -4530,7 +4906,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Integer> rangeClosed(int fromInclusive, int toInclusive, int step) {
-        return toInclusive < fromInclusive ? empty() : iterate(fromInclusive, t -> Integer.valueOf(t + step)).limitWhile(t -> t <= toInclusive);
+        return toInclusive < fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toInclusive, step, v -> Integer.valueOf((int) v)))
+             : iterate(fromInclusive, t -> Integer.valueOf(t + step)).limitWhile(t -> t <= toInclusive);
     }
 
     /**
@@ -4551,7 +4931,11 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @param step The increase between two values
      */
     static Seq<Long> rangeClosed(long fromInclusive, long toInclusive, long step) {
-        return toInclusive < fromInclusive ? empty() : iterate(fromInclusive, t -> Long.valueOf(t + step)).limitWhile(t -> t <= toInclusive);
+        return toInclusive < fromInclusive
+             ? empty()
+             : step > 0
+             ? seq(ReversibleSpliterator.range(fromInclusive, toInclusive, step, v -> Long.valueOf(v)))
+             : iterate(fromInclusive, t -> Long.valueOf(t + step)).limitWhile(t -> t <= toInclusive);
     }
 
     /**
@@ -4635,7 +5019,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      *         startIndex &gt; endIndex</code>)
      */
     static <T> Seq<T> seq(T[] values, int startIndex, int endIndex) {
-        return seq(Arrays.asList(values).subList(startIndex, endIndex));
+        return seq(ReversibleSpliterator.of(values, startIndex, endIndex));
     }
 
     /**
@@ -4696,9 +5080,16 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     /**
      * Wrap an <code>Iterable</code> into a <code>Seq</code>.
      */
+    @SuppressWarnings("unchecked")
     static <T> Seq<T> seq(Iterable<? extends T> iterable) {
         if (iterable == null)
             return Seq.empty();
+
+        // Lists and Deques can be reversed without buffering
+        if (iterable instanceof List)
+            return seq(ReversibleSpliterator.of((List<T>) iterable));
+        else if (iterable instanceof Deque)
+            return seq(ReversibleSpliterator.of((Deque<T>) iterable));
         
         return seq(iterable.iterator());
     }
@@ -4841,6 +5232,22 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         return seq(spliterator).onClose(Unchecked.runnable(reader::close));
     }
 
+    /**
+     * Wrap a {@link Flow.Publisher} into a <code>Seq</code>.
+     * <p>
+     * The publisher is subscribed to when the <code>Seq</code> is first
+     * consumed. <code>prefetch</code> elements are requested up front, and
+     * further elements are requested in batches as buffered ones are
+     * consumed, so no more than <code>prefetch</code> elements are ever
+     * buffered. Consuming the <code>Seq</code> blocks while waiting for
+     * elements. Errors signalled by the publisher are rethrown, checked
+     * exceptions being wrapped as by {@link Unchecked#throwUnchecked(Throwable)}.
+     * Closing the <code>Seq</code> cancels the subscription.
+     */
+    static <T> Seq<T> fromPublisher(Flow.Publisher<? extends T> publisher, int prefetch) {
+        return SeqFlow.seq(publisher, prefetch);
+    }
+
     /**
      * Repeat a stream infinitely.
      * <p>
@@ -4943,16 +5350,22 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         List<T> list = new ArrayList<>();
         Spliterator<T>[] sp = new Spliterator[1];
         long[] remaining = new long[] { times };
+        Object[] event = new Object[1];
         
         return SeqUtils.transform(stream, (delegate, action) -> {
             if (sp[0] == null) {
+                if (list.isEmpty() && event[0] == null)
+                    event[0] = JfrEvents.begin(JfrEvents.FULL_BUFFER);
+
                 if (delegate.tryAdvance(t -> {
                     list.add(t);
                     action.accept(t);
                 }))
                     return true;
-                else
+                else {
+                    JfrEvents.commit(event[0], "cycle", list.size());
                     sp[0] = list.spliterator();
+                }
             }
 
             if (!sp[0].tryAdvance(action)) {
@@ -6648,113 +7061,470 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
 
 // [jooq-tools] END [zip-static]
 
+    // [jooq-tools] START [zip-reusing-static]
+
     /**
-     * Zip a Stream with a corresponding Stream of indexes.
+     * Zip 2 streams into one, reusing a single {@link MutableTuple2} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple2#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
-     * Seq.of("a", "b", "c").zipWithIndex()
+     * // (tuple(1, "a"), tuple(2, "b"), tuple(3, "c"))
+     * Seq.zipReusing(Seq.of(1, 2, 3), Seq.of("a", "b", "c")).map(MutableTuple2::toTuple)
      * </code></pre>
      */
-    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Stream<? extends T> stream) {
-        return zipWithIndex(seq(stream));
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2> Seq<MutableTuple2<T1, T2>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2) {
+        MutableTuple2<T1, T2> tuple = new MutableTuple2<>();
+        return zip(s1, s2, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2));
     }
 
     /**
-     * Zip a Stream with a corresponding Stream of indexes.
+     * Zip 3 streams into one, reusing a single {@link MutableTuple3} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple3#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
-     * Seq.of("a", "b", "c").zipWithIndex()
+     * // (tuple(1, 2, 3), tuple(4, 5, 6))
+     * Seq.zipReusing(Seq.of(1, 4), Seq.of(2, 5), Seq.of(3, 6)).map(MutableTuple3::toTuple)
      * </code></pre>
      */
-    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Iterable<? extends T> iterable) {
-        return zipWithIndex(seq(iterable));
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3> Seq<MutableTuple3<T1, T2, T3>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3) {
+        MutableTuple3<T1, T2, T3> tuple = new MutableTuple3<>();
+        return zip(s1, s2, s3, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3));
     }
 
     /**
-     * Zip a Stream with a corresponding Stream of indexes.
+     * Zip 4 streams into one, reusing a single {@link MutableTuple4} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple4#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
-     * Seq.of("a", "b", "c").zipWithIndex()
+     * // (tuple(1, 2, 3, 4), tuple(5, 6, 7, 8))
+     * Seq.zipReusing(Seq.of(1, 5), Seq.of(2, 6), Seq.of(3, 7), Seq.of(4, 8)).map(MutableTuple4::toTuple)
      * </code></pre>
      */
-    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Seq<? extends T> stream) {
-        long[] index = { -1L };
-
-        return SeqUtils.transform(stream, (delegate, action) ->
-            delegate.tryAdvance(t ->
-                action.accept(tuple(t, ++index[0]))
-            )
-        );
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4> Seq<MutableTuple4<T1, T2, T3, T4>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4) {
+        MutableTuple4<T1, T2, T3, T4> tuple = new MutableTuple4<>();
+        return zip(s1, s2, s3, s4, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4));
     }
 
     /**
-     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * Zip 5 streams into one, reusing a single {@link MutableTuple5} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple5#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // ("0:a", "1:b", "2:c")
-     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * // (tuple(1, 2, 3, 4, 5), tuple(6, 7, 8, 9, 10))
+     * Seq.zipReusing(Seq.of(1, 6), Seq.of(2, 7), Seq.of(3, 8), Seq.of(4, 9), Seq.of(5, 10)).map(MutableTuple5::toTuple)
      * </code></pre>
      */
-    static <T, R> Seq<R> zipWithIndex(Stream<? extends T> stream, BiFunction<? super T, ? super Long, ? extends R> zipper) {
-        return zipWithIndex(seq(stream), zipper);
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5> Seq<MutableTuple5<T1, T2, T3, T4, T5>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5) {
+        MutableTuple5<T1, T2, T3, T4, T5> tuple = new MutableTuple5<>();
+        return zip(s1, s2, s3, s4, s5, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5));
     }
 
     /**
-     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * Zip 6 streams into one, reusing a single {@link MutableTuple6} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple6#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // ("0:a", "1:b", "2:c")
-     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * // (tuple(1, 2, 3, 4, 5, 6), tuple(7, 8, 9, 10, 11, 12))
+     * Seq.zipReusing(Seq.of(1, 7), Seq.of(2, 8), Seq.of(3, 9), Seq.of(4, 10), Seq.of(5, 11), Seq.of(6, 12)).map(MutableTuple6::toTuple)
      * </code></pre>
      */
-    static <T, R> Seq<R> zipWithIndex(Iterable<? extends T> iterable, BiFunction<? super T, ? super Long, ? extends R> zipper) {
-        return zipWithIndex(seq(iterable), zipper);
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6> Seq<MutableTuple6<T1, T2, T3, T4, T5, T6>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6) {
+        MutableTuple6<T1, T2, T3, T4, T5, T6> tuple = new MutableTuple6<>();
+        return zip(s1, s2, s3, s4, s5, s6, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6));
     }
 
     /**
-     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * Zip 7 streams into one, reusing a single {@link MutableTuple7} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple7#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // ("0:a", "1:b", "2:c")
-     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * // (tuple(1, 2, 3, 4, 5, 6, 7), tuple(8, 9, 10, 11, 12, 13, 14))
+     * Seq.zipReusing(Seq.of(1, 8), Seq.of(2, 9), Seq.of(3, 10), Seq.of(4, 11), Seq.of(5, 12), Seq.of(6, 13), Seq.of(7, 14)).map(MutableTuple7::toTuple)
      * </code></pre>
      */
-    static <T, R> Seq<R> zipWithIndex(Seq<? extends T> stream, BiFunction<? super T, ? super Long, ? extends R> zipper) {
-        long[] index = { -1L };
-
-        return SeqUtils.transform(stream, (delegate, action) ->
-            delegate.tryAdvance(t ->
-                action.accept(zipper.apply(t, ++index[0]))
-            )
-        );
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7> Seq<MutableTuple7<T1, T2, T3, T4, T5, T6, T7>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7) {
+        MutableTuple7<T1, T2, T3, T4, T5, T6, T7> tuple = new MutableTuple7<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7));
     }
 
     /**
-     * Fold a stream to the left.
+     * Zip 8 streams into one, reusing a single {@link MutableTuple8} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple8#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // "abc"
-     * Seq.of("a", "b", "c").foldLeft("", (u, t) -&gt; u + t)
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8), tuple(9, 10, 11, 12, 13, 14, 15, 16))
+     * Seq.zipReusing(Seq.of(1, 9), Seq.of(2, 10), Seq.of(3, 11), Seq.of(4, 12), Seq.of(5, 13), Seq.of(6, 14), Seq.of(7, 15), Seq.of(8, 16)).map(MutableTuple8::toTuple)
      * </code></pre>
      */
-    static <T, U> U foldLeft(Stream<? extends T> stream, U seed, BiFunction<? super U, ? super T, ? extends U> function) {
-        return foldLeft(seq(stream), seed, function);
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8> Seq<MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8) {
+        MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> tuple = new MutableTuple8<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8));
     }
 
     /**
-     * Fold a stream to the left.
+     * Zip 9 streams into one, reusing a single {@link MutableTuple9} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple9#toTuple()} to retain a copy.
      * <p>
      * <pre><code>
-     * // "abc"
-     * Seq.of("a", "b", "c").foldLeft("", (u, t) -&gt; u + t)
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9), tuple(10, 11, 12, 13, 14, 15, 16, 17, 18))
+     * Seq.zipReusing(Seq.of(1, 10), Seq.of(2, 11), Seq.of(3, 12), Seq.of(4, 13), Seq.of(5, 14), Seq.of(6, 15), Seq.of(7, 16), Seq.of(8, 17), Seq.of(9, 18)).map(MutableTuple9::toTuple)
      * </code></pre>
      */
-    static <T, U> U foldLeft(Iterable<? extends T> iterable, U seed, BiFunction<? super U, ? super T, ? extends U> function) {
-        return foldLeft(seq(iterable), seed, function);
-    }
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9> Seq<MutableTuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9) {
+        MutableTuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9> tuple = new MutableTuple9<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9));
+    }
+
+    /**
+     * Zip 10 streams into one, reusing a single {@link MutableTuple10} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple10#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), tuple(11, 12, 13, 14, 15, 16, 17, 18, 19, 20))
+     * Seq.zipReusing(Seq.of(1, 11), Seq.of(2, 12), Seq.of(3, 13), Seq.of(4, 14), Seq.of(5, 15), Seq.of(6, 16), Seq.of(7, 17), Seq.of(8, 18), Seq.of(9, 19), Seq.of(10, 20)).map(MutableTuple10::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> Seq<MutableTuple10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10) {
+        MutableTuple10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> tuple = new MutableTuple10<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10));
+    }
+
+    /**
+     * Zip 11 streams into one, reusing a single {@link MutableTuple11} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple11#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), tuple(12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22))
+     * Seq.zipReusing(Seq.of(1, 12), Seq.of(2, 13), Seq.of(3, 14), Seq.of(4, 15), Seq.of(5, 16), Seq.of(6, 17), Seq.of(7, 18), Seq.of(8, 19), Seq.of(9, 20), Seq.of(10, 21), Seq.of(11, 22)).map(MutableTuple11::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Seq<MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11) {
+        MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> tuple = new MutableTuple11<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11));
+    }
+
+    /**
+     * Zip 12 streams into one, reusing a single {@link MutableTuple12} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple12#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12), tuple(13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24))
+     * Seq.zipReusing(Seq.of(1, 13), Seq.of(2, 14), Seq.of(3, 15), Seq.of(4, 16), Seq.of(5, 17), Seq.of(6, 18), Seq.of(7, 19), Seq.of(8, 20), Seq.of(9, 21), Seq.of(10, 22), Seq.of(11, 23), Seq.of(12, 24)).map(MutableTuple12::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Seq<MutableTuple12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11, Seq<? extends T12> s12) {
+        MutableTuple12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> tuple = new MutableTuple12<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12));
+    }
+
+    /**
+     * Zip 13 streams into one, reusing a single {@link MutableTuple13} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple13#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13), tuple(14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26))
+     * Seq.zipReusing(Seq.of(1, 14), Seq.of(2, 15), Seq.of(3, 16), Seq.of(4, 17), Seq.of(5, 18), Seq.of(6, 19), Seq.of(7, 20), Seq.of(8, 21), Seq.of(9, 22), Seq.of(10, 23), Seq.of(11, 24), Seq.of(12, 25), Seq.of(13, 26)).map(MutableTuple13::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Seq<MutableTuple13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11, Seq<? extends T12> s12, Seq<? extends T13> s13) {
+        MutableTuple13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> tuple = new MutableTuple13<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13));
+    }
+
+    /**
+     * Zip 14 streams into one, reusing a single {@link MutableTuple14} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple14#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14), tuple(15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28))
+     * Seq.zipReusing(Seq.of(1, 15), Seq.of(2, 16), Seq.of(3, 17), Seq.of(4, 18), Seq.of(5, 19), Seq.of(6, 20), Seq.of(7, 21), Seq.of(8, 22), Seq.of(9, 23), Seq.of(10, 24), Seq.of(11, 25), Seq.of(12, 26), Seq.of(13, 27), Seq.of(14, 28)).map(MutableTuple14::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Seq<MutableTuple14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11, Seq<? extends T12> s12, Seq<? extends T13> s13, Seq<? extends T14> s14) {
+        MutableTuple14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> tuple = new MutableTuple14<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14));
+    }
+
+    /**
+     * Zip 15 streams into one, reusing a single {@link MutableTuple15} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple15#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15), tuple(16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30))
+     * Seq.zipReusing(Seq.of(1, 16), Seq.of(2, 17), Seq.of(3, 18), Seq.of(4, 19), Seq.of(5, 20), Seq.of(6, 21), Seq.of(7, 22), Seq.of(8, 23), Seq.of(9, 24), Seq.of(10, 25), Seq.of(11, 26), Seq.of(12, 27), Seq.of(13, 28), Seq.of(14, 29), Seq.of(15, 30)).map(MutableTuple15::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Seq<MutableTuple15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11, Seq<? extends T12> s12, Seq<? extends T13> s13, Seq<? extends T14> s14, Seq<? extends T15> s15) {
+        MutableTuple15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> tuple = new MutableTuple15<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15));
+    }
+
+    /**
+     * Zip 16 streams into one, reusing a single {@link MutableTuple16} for all
+     * elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple16#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16), tuple(17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32))
+     * Seq.zipReusing(Seq.of(1, 17), Seq.of(2, 18), Seq.of(3, 19), Seq.of(4, 20), Seq.of(5, 21), Seq.of(6, 22), Seq.of(7, 23), Seq.of(8, 24), Seq.of(9, 25), Seq.of(10, 26), Seq.of(11, 27), Seq.of(12, 28), Seq.of(13, 29), Seq.of(14, 30), Seq.of(15, 31), Seq.of(16, 32)).map(MutableTuple16::toTuple)
+     * </code></pre>
+     */
+    /// @Generated("This method was generated using jOOQ-tools")
+    static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Seq<MutableTuple16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16>> zipReusing(Seq<? extends T1> s1, Seq<? extends T2> s2, Seq<? extends T3> s3, Seq<? extends T4> s4, Seq<? extends T5> s5, Seq<? extends T6> s6, Seq<? extends T7> s7, Seq<? extends T8> s8, Seq<? extends T9> s9, Seq<? extends T10> s10, Seq<? extends T11> s11, Seq<? extends T12> s12, Seq<? extends T13> s13, Seq<? extends T14> s14, Seq<? extends T15> s15, Seq<? extends T16> s16) {
+        MutableTuple16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> tuple = new MutableTuple16<>();
+        return zip(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, tuple::set)
+              .onClose(SeqUtils.closeAll(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16));
+    }
+
+// [jooq-tools] END [zip-reusing-static]
+
+    /**
+     * Zip a Stream with a corresponding Stream of indexes.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithIndex()
+     * </code></pre>
+     */
+    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Stream<? extends T> stream) {
+        return zipWithIndex(seq(stream));
+    }
+
+    /**
+     * Zip a Stream with a corresponding Stream of indexes.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithIndex()
+     * </code></pre>
+     */
+    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Iterable<? extends T> iterable) {
+        return zipWithIndex(seq(iterable));
+    }
+
+    /**
+     * Zip a Stream with a corresponding Stream of indexes.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithIndex()
+     * </code></pre>
+     */
+    static <T> Seq<Tuple2<T, Long>> zipWithIndex(Seq<? extends T> stream) {
+        long[] index = { -1L };
+
+        return SeqUtils.transform(stream, (delegate, action) ->
+            delegate.tryAdvance(t ->
+                action.accept(tuple(t, ++index[0]))
+            )
+        );
+    }
+
+    /**
+     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * <p>
+     * <pre><code>
+     * // ("0:a", "1:b", "2:c")
+     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * </code></pre>
+     */
+    static <T, R> Seq<R> zipWithIndex(Stream<? extends T> stream, BiFunction<? super T, ? super Long, ? extends R> zipper) {
+        return zipWithIndex(seq(stream), zipper);
+    }
+
+    /**
+     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * <p>
+     * <pre><code>
+     * // ("0:a", "1:b", "2:c")
+     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * </code></pre>
+     */
+    static <T, R> Seq<R> zipWithIndex(Iterable<? extends T> iterable, BiFunction<? super T, ? super Long, ? extends R> zipper) {
+        return zipWithIndex(seq(iterable), zipper);
+    }
+
+    /**
+     * Zip a stream with indexes into one using a {@link BiFunction} to produce resulting values.
+     * <p>
+     * <pre><code>
+     * // ("0:a", "1:b", "2:c")
+     * Seq.of("a", "b", "c").zipWithIndex((s, i) -&gt; i + ":" + s))
+     * </code></pre>
+     */
+    static <T, R> Seq<R> zipWithIndex(Seq<? extends T> stream, BiFunction<? super T, ? super Long, ? extends R> zipper) {
+        long[] index = { -1L };
+
+        return SeqUtils.transform(stream, (delegate, action) ->
+            delegate.tryAdvance(t ->
+                action.accept(zipper.apply(t, ++index[0]))
+            )
+        );
+    }
+
+    /**
+     * Zip a Stream with a corresponding Stream of indexes, reusing a single
+     * {@link MutableTuple2} for all elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple2#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithIndexReusing().map(MutableTuple2::toTuple)
+     * </code></pre>
+     */
+    static <T> Seq<MutableTuple2<T, Long>> zipWithIndexReusing(Seq<? extends T> stream) {
+        MutableTuple2<T, Long> tuple = new MutableTuple2<>();
+        return zipWithIndex(stream, tuple::set);
+    }
+
+    /**
+     * Zip a Stream with a corresponding Stream of unboxed <code>long</code>
+     * indexes.
+     * <p>
+     * <pre><code>
+     * // (tuple("a", 0), tuple("b", 1), tuple("c", 2))
+     * Seq.of("a", "b", "c").zipWithLongIndex()
+     * </code></pre>
+     */
+    static <T> Seq<ObjLongTuple2<T>> zipWithLongIndex(Seq<? extends T> stream) {
+        long[] index = { -1L };
+
+        return SeqUtils.transform(stream, (delegate, action) ->
+            delegate.tryAdvance(t ->
+                action.accept(new ObjLongTuple2<>(t, ++index[0]))
+            )
+        );
+    }
+
+    /**
+     * Fold a stream to the left.
+     * <p>
+     * <pre><code>
+     * // "abc"
+     * Seq.of("a", "b", "c").foldLeft("", (u, t) -&gt; u + t)
+     * </code></pre>
+     */
+    static <T, U> U foldLeft(Stream<? extends T> stream, U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return foldLeft(seq(stream), seed, function);
+    }
+
+    /**
+     * Fold a stream to the left.
+     * <p>
+     * <pre><code>
+     * // "abc"
+     * Seq.of("a", "b", "c").foldLeft("", (u, t) -&gt; u + t)
+     * </code></pre>
+     */
+    static <T, U> U foldLeft(Iterable<? extends T> iterable, U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return foldLeft(seq(iterable), seed, function);
+    }
 
     /**
      * Fold a stream to the left.
@@ -6938,14 +7708,29 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     /**
      * Reverse a stream.
      * <p>
+     * Sources created from arrays, <code>List</code>s, <code>Deque</code>s or
+     * numeric ranges are traversed backwards lazily, other sources are
+     * buffered first.
+     * <p>
      * <pre><code>
      * // (3, 2, 1)
      * Seq.of(1, 2, 3).reverse()
      * </code></pre>
      */
     static <T> Seq<T> reverse(Seq<? extends T> stream) {
-        List<T> list = toList(stream);
+        Spliterator<? extends T> spliterator = stream.spliterator();
+
+        if (spliterator instanceof ReversibleSpliterator) {
+            Spliterator<? extends T> reversed = ((ReversibleSpliterator<? extends T>) spliterator).reverse();
+
+            if (reversed != null)
+                return Seq.<T>seq(reversed).onClose(stream::close);
+        }
+
+        Object event = JfrEvents.begin(JfrEvents.FULL_BUFFER);
+        List<T> list = toList(seq(spliterator));
         Collections.reverse(list);
+        JfrEvents.commit(event, "reverse", list.size());
         return seq(list).onClose(stream::close);
     }
 
@@ -7023,6 +7808,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         // [#323] Some explicit type variable bindings required because of compiler regressions in JDK 9
         return SeqUtils.<T, T>transform(stream, (delegate, action) -> {
             if (shuffled[0] == null) {
+                Object event = JfrEvents.begin(JfrEvents.FULL_BUFFER);
                 List<T> list = Seq.<T>seq(delegate).toList();
                 
                 if (random == null)
@@ -7030,6 +7816,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
                 else
                     Collections.shuffle(list, random);
                 
+                JfrEvents.commit(event, "shuffle", list.size());
                 shuffled[0] = list.spliterator();
             }
 
@@ -8862,6 +9649,46 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
                       .onClose(SeqUtils.closeAll(s1, s2));
     }
 
+    /**
+     * Cross join 2 streams into one, reusing a single {@link MutableTuple2}
+     * for all elements.
+     * <p>
+     * The same tuple instance is overwritten with the values of every
+     * element, so it must not be retained beyond the processing of the
+     * current element, e.g. by collecting it, sorting it or buffering it in
+     * any other way. Use {@link MutableTuple2#toTuple()} to retain a copy.
+     * <p>
+     * <pre><code>
+     * // (tuple(1, "a"), tuple(1, "b"), tuple(2, "a"), tuple(2, "b"))
+     * Seq.crossJoinReusing(Seq.of(1, 2), Seq.of("a", "b")).map(MutableTuple2::toTuple)
+     * </code></pre>
+     */
+    static <T1, T2> Seq<MutableTuple2<T1, T2>> crossJoinReusing(Seq<? extends T1> s1, Seq<? extends T2> s2) {
+        List<? extends T2> list = s2.toList();
+        MutableTuple2<T1, T2> tuple = new MutableTuple2<>();
+
+        @SuppressWarnings("unchecked")
+        T1[] v1 = (T1[]) new Object[1];
+        int[] index = { list.size() };
+
+        // Not using flatMap() here, as it may buffer several elements of the
+        // inner stream, all of which would be the same tuple instance
+        return SeqUtils.<T1, MutableTuple2<T1, T2>>transform(s1, (delegate, action) -> {
+            if (list.isEmpty())
+                return false;
+
+            if (index[0] == list.size()) {
+                if (!delegate.tryAdvance(t -> v1[0] = t))
+                    return false;
+
+                index[0] = 0;
+            }
+
+            action.accept(tuple.set(v1[0], list.get(index[0]++)));
+            return true;
+        }).onClose(SeqUtils.closeAll(s1, s2));
+    }
+
     /**
      * Cross join 3 streams into one.
      * <p>
@@ -9178,7 +10005,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     static <T> Tuple2<Seq<T>, Seq<T>> duplicate(Stream<? extends T> stream) {
-        SeqBuffer<T> buffer = SeqBuffer.of(stream);
+        SeqBuffer<T> buffer = SeqBuffer.of(stream, "duplicate");
         return tuple(buffer.seq(), buffer.seq());
     }
 
@@ -9193,7 +10020,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * Consume a stream and concatenate all elements using a separator.
      */
     static String toString(Stream<?> stream, CharSequence delimiter) {
-        return stream.map(Objects::toString).collect(Collectors.joining(delimiter));
+        return SeqUtils.toString(stream, delimiter, "", "");
     }
 
     /**
@@ -9499,79 +10326,180 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * @see #partition(Predicate)
      */
     public static <K, T> Seq<Tuple2<K, Seq<T>>> grouped(Seq<? extends T> seq, Function<? super T, ? extends K> classifier) {
-        final Iterator<? extends T> it = seq.iterator();
+        return grouped(seq, classifier, Integer.MAX_VALUE);
+    }
 
-        class ClassifyingIterator implements Iterator<Tuple2<K, Seq<T>>> {
-            final Map<K, Queue<T>> buffers = new LinkedHashMap<>();
-            final Queue<K> keys = new LinkedList<>();
+    /**
+     * Classify this stream's elements according to a given classifier
+     * function, buffering at most <code>bufferLimit</code> elements per class.
+     * <p>
+     * Elements of a class are buffered while the consumer reads other classes.
+     * If a class's buffer would exceed the limit, a
+     * {@link BufferLimitExceededException} is thrown rather than buffering the
+     * whole stream.
+     *
+     * @see #grouped(Seq, Function)
+     */
+    public static <K, T> Seq<Tuple2<K, Seq<T>>> grouped(Seq<? extends T> seq, Function<? super T, ? extends K> classifier, int bufferLimit) {
+        if (bufferLimit <= 0)
+            throw new IllegalArgumentException("bufferLimit must be positive: " + bufferLimit);
 
-            class Classification implements Iterator<T> {
-                final K key;
-                Queue<T> buffer;
+        final Spliterator<? extends T> source = seq.spliterator();
 
-                Classification(K key) {
-                    this.key = key;
-                }
+        class Classifying implements FunctionalSpliterator<Tuple2<K, Seq<T>>> {
+            final Map<K, ChunkedQueue<T>> buffers = new HashMap<>();
+            final ChunkedQueue<K> keys = new ChunkedQueue<>();
+            final boolean instrumented = SeqMetrics.sink() != null;
+            int highWaterMark;
 
-                void fetchClassification() {
-                    if (buffer == null)
-                        buffer = buffers.get(key);
+            class Classification implements FunctionalSpliterator<T> {
+                final ChunkedQueue<T> buffer;
 
-                    while (buffer.isEmpty() && it.hasNext())
-                        fetchNextNewKey();
+                Classification(ChunkedQueue<T> buffer) {
+                    this.buffer = buffer;
                 }
 
                 @Override
-                public boolean hasNext() {
-                    fetchClassification();
-                    return !buffer.isEmpty();
-                }
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    while (buffer.isEmpty() && fetch());
 
-                @Override
-                public T next() {
-                    return buffer.poll();
-                }
-            }
+                    if (buffer.isEmpty())
+                        return false;
 
-            void fetchClassifying() {
-                while (it.hasNext() && fetchNextNewKey());
+                    action.accept(buffer.poll());
+                    return true;
+                }
             }
 
-            boolean fetchNextNewKey() {
-                T next = it.next();
-                K nextK = classifier.apply(next);
+            boolean fetch() {
+                boolean fetched = source.tryAdvance(t -> {
+                    K key = classifier.apply(t);
+                    ChunkedQueue<T> buffer = buffers.get(key);
 
-                Queue<T> buffer = buffers.get(nextK);
-
-                try {
                     if (buffer == null) {
-                        buffer = new ArrayDeque<>();
-                        buffers.put(nextK, buffer);
-                        keys.add(nextK);
-                        return false;
+                        buffers.put(key, buffer = new ChunkedQueue<>());
+                        keys.offer(key);
                     }
-                }
-                finally {
-                    buffer.offer(next);
+                    else if (buffer.size() >= bufferLimit)
+                        throw new BufferLimitExceededException("More than " + bufferLimit + " elements buffered for class: " + key);
+
+                    buffer.offer(t);
+
+                    if (instrumented)
+                        highWaterMark = Math.max(highWaterMark, buffer.size());
+                });
+
+                if (!fetched && instrumented && highWaterMark >= 0) {
+                    SeqMetrics.buffer("grouped", highWaterMark);
+                    highWaterMark = -1;
                 }
 
-                return true;
+                return fetched;
             }
 
             @Override
-            public boolean hasNext() {
-                fetchClassifying();
-                return !keys.isEmpty();
+            public boolean tryAdvance(Consumer<? super Tuple2<K, Seq<T>>> action) {
+                while (keys.isEmpty() && fetch());
+
+                if (keys.isEmpty())
+                    return false;
+
+                K key = keys.poll();
+                action.accept(tuple(key, seq(new Classification(buffers.get(key)))));
+                return true;
+            }
+        }
+
+        return seq(new Classifying()).onClose(seq::close);
+    }
+
+    /**
+     * Classify this stream's elements according to a given classifier
+     * function, assuming that elements of the same class are contiguous.
+     * <p>
+     * <pre><code>
+     * // Seq(tuple(1, Seq(1, 3)), tuple(0, Seq(2, 4)), tuple(1, Seq(5)))
+     * Seq.of(1, 3, 2, 4, 5).groupedClustered(i -&gt; i % 2)
+     * </code></pre>
+     *
+     * Like a SQL <code>GROUP BY</code> on sorted input, each class is emitted
+     * as soon as its key changes, and no elements are buffered. A class's
+     * elements can only be read until the next class is requested. Any unread
+     * elements are skipped.
+     *
+     * @see #grouped(Seq, Function)
+     */
+    public static <K, T> Seq<Tuple2<K, Seq<T>>> groupedClustered(Seq<? extends T> seq, Function<? super T, ? extends K> classifier) {
+        final Spliterator<? extends T> source = seq.spliterator();
+
+        class Clustering implements FunctionalSpliterator<Tuple2<K, Seq<T>>> {
+
+            // The next element and its key, which have been read but not consumed
+            T next;
+            K nextKey;
+            boolean ready;
+
+            // The current class's key and number
+            K key;
+            long number;
+
+            boolean fetch() {
+                if (!ready)
+                    ready = source.tryAdvance(t -> {
+                        next = t;
+                        nextKey = classifier.apply(t);
+                    });
+
+                return ready;
+            }
+
+            T consume() {
+                T result = next;
+                next = null;
+                ready = false;
+                return result;
             }
 
             @Override
-            public Tuple2<K, Seq<T>> next() {
-                K nextK = keys.poll();
-                return tuple(nextK, seq(new Classification(nextK)));
+            public boolean tryAdvance(Consumer<? super Tuple2<K, Seq<T>>> action) {
+                if (number > 0)
+                    while (fetch() && Objects.equals(key, nextKey))
+                        consume();
+
+                if (!fetch())
+                    return false;
+
+                long current = ++number;
+                K k = key = nextKey;
+
+                action.accept(tuple(k, seq((FunctionalSpliterator<T>) a -> {
+                    if (current != number || !fetch() || !Objects.equals(k, nextKey))
+                        return false;
+
+                    a.accept(consume());
+                    return true;
+                })));
+                return true;
             }
         }
 
-        return seq(new ClassifyingIterator()).onClose(seq::close);
+        return seq(new Clustering()).onClose(seq::close);
+    }
+
+    /**
+     * Classify this stream's elements according to a given classifier function,
+     * assuming that elements of the same class are contiguous, and collect
+     * each class's elements using a collector.
+     * <p>
+     * <pre><code>
+     * // Seq(tuple(1, 4), tuple(0, 6), tuple(1, 5))
+     * Seq.of(1, 3, 2, 4, 5).groupedClustered(i -&gt; i % 2, Collectors.summingInt(i -&gt; i))
+     * </code></pre>
+     *
+     * @see #groupedClustered(Seq, Function)
+     */
+    public static <K, T, A, D> Seq<Tuple2<K, D>> groupedClustered(Seq<? extends T> seq, Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
+        return Seq.<K, T>groupedClustered(seq, classifier).map(t -> tuple(t.v1, t.v2.collect(downstream)));
     }
 
     /**
@@ -9637,35 +10565,65 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     static <T> Tuple2<Seq<T>, Seq<T>> partition(Stream<? extends T> stream, Predicate<? super T> predicate) {
-        final Iterator<? extends T> it = stream.iterator();
-        final LinkedList<T> buffer1 = new LinkedList<>();
-        final LinkedList<T> buffer2 = new LinkedList<>();
+        return partition(stream, predicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Partition a stream into two given a predicate, buffering at most
+     * <code>bufferLimit</code> elements per partition.
+     * <p>
+     * If a partition's buffer would exceed the limit, a
+     * {@link BufferLimitExceededException} is thrown rather than buffering the
+     * whole stream.
+     *
+     * @see #partition(Stream, Predicate)
+     */
+    static <T> Tuple2<Seq<T>, Seq<T>> partition(Stream<? extends T> stream, Predicate<? super T> predicate, int bufferLimit) {
+        if (bufferLimit <= 0)
+            throw new IllegalArgumentException("bufferLimit must be positive: " + bufferLimit);
 
-        class BPartition implements Iterator<T> {
+        final Spliterator<? extends T> source = stream.spliterator();
+        final ChunkedQueue<T> buffer1 = new ChunkedQueue<>();
+        final ChunkedQueue<T> buffer2 = new ChunkedQueue<>();
+        final int[] highWaterMark = SeqMetrics.sink() != null ? new int[1] : null;
 
-            final LinkedList<T> buf;
+        class BPartition implements FunctionalSpliterator<T> {
+            final ChunkedQueue<T> buf;
 
-            BPartition(LinkedList<T> defBuffer) {
+            BPartition(ChunkedQueue<T> defBuffer) {
                 buf = defBuffer;
             }
 
-            void fetch() {
-                while (buf.isEmpty() && it.hasNext()) {
-                    T next = it.next();
-                    LinkedList<T> oBuf = predicate.test(next) ? buffer1 : buffer2;
-                    oBuf.offer(next);
+            boolean fetch() {
+                boolean fetched = source.tryAdvance(t -> {
+                    ChunkedQueue<T> oBuf = predicate.test(t) ? buffer1 : buffer2;
+
+                    if (oBuf.size() >= bufferLimit)
+                        throw new BufferLimitExceededException("More than " + bufferLimit + " elements buffered for partition: " + (oBuf == buffer1));
+
+                    oBuf.offer(t);
+
+                    if (highWaterMark != null)
+                        highWaterMark[0] = Math.max(highWaterMark[0], oBuf.size());
+                });
+
+                if (!fetched && highWaterMark != null && highWaterMark[0] >= 0) {
+                    SeqMetrics.buffer("partition", highWaterMark[0]);
+                    highWaterMark[0] = -1;
                 }
-            }
 
-            @Override
-            public boolean hasNext() {
-                fetch();
-                return !buf.isEmpty();
+                return fetched;
             }
 
             @Override
-            public T next() {
-                return buf.poll();
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (buf.isEmpty() && fetch());
+
+                if (buf.isEmpty())
+                    return false;
+
+                action.accept(buf.poll());
+                return true;
             }
         }
 
@@ -9681,7 +10639,7 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * </code></pre>
      */
     static <T> Tuple2<Seq<T>, Seq<T>> splitAt(Stream<? extends T> stream, long position) {
-        SeqBuffer<T> buffer = SeqBuffer.of(stream);
+        SeqBuffer<T> buffer = SeqBuffer.of(stream, "splitAt");
         return tuple(buffer.seq().limit(position), buffer.seq().skip(position));
     }
 
@@ -9729,7 +10687,96 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
     static <T, U> Seq<U> cast(Stream<? extends T> stream, Class<? extends U> type) {
         return seq(stream).map(type::cast);
     }
-    
+
+    /**
+     * Map all elements in a stream using a function that may throw, capturing
+     * each outcome in an {@link Either}.
+     * <p>
+     * <pre><code>
+     * // (success(1), failure(NumberFormatException), success(3))
+     * Seq.of("1", "a", "3").mapTry(Integer::parseInt)
+     * </code></pre>
+     */
+    static <T, R> Seq<Either<R>> mapTry(Stream<? extends T> stream, CheckedFunction<? super T, ? extends R> mapper) {
+        return seq(stream).map(t -> SeqUtils.tryApply(mapper, t));
+    }
+
+    /**
+     * Map all elements in a stream using a function that may throw, capturing
+     * each outcome in an {@link Either}, and stop pulling elements from the
+     * stream once <code>maxFailures</code> failures have been emitted.
+     * <p>
+     * <pre><code>
+     * // (success(1), failure(NumberFormatException))
+     * Seq.of("1", "a", "3", "b").mapTry(Integer::parseInt, 1)
+     * </code></pre>
+     */
+    static <T, R> Seq<Either<R>> mapTry(Stream<? extends T> stream, CheckedFunction<? super T, ? extends R> mapper, long maxFailures) {
+        if (maxFailures <= 0)
+            throw new IllegalArgumentException("maxFailures must be positive: " + maxFailures);
+
+        long[] failures = { 0L };
+
+        return SeqUtils.transform(stream, (delegate, action) ->
+            failures[0] < maxFailures && delegate.tryAdvance(t -> {
+                Either<R> result = SeqUtils.tryApply(mapper, t);
+
+                if (result.isFailure())
+                    failures[0]++;
+
+                action.accept(result);
+            })
+        );
+    }
+
+    /**
+     * Instrument a stream at this point, reporting its metrics to the global
+     * {@link SeqMetrics#sink()}, if any.
+     * <p>
+     * If no sink is registered when this method is called, the stream is
+     * returned without instrumentation.
+     */
+    static <T> Seq<T> instrumented(Stream<? extends T> stream, String stage) {
+        MetricsSink sink = SeqMetrics.sink();
+        return sink == null ? seq(stream) : instrumented(stream, stage, sink);
+    }
+
+    /**
+     * Instrument a stream at this point, reporting its metrics to a
+     * {@link MetricsSink}.
+     * <p>
+     * The number of elements that have passed this point and the time spent
+     * pulling them from upstream are reported once, when the stream is
+     * exhausted or closed. As streams are pull based, the time includes all
+     * upstream stages, and the time spent in a single stage is the difference
+     * between the instrumentation points around it.
+     */
+    static <T> Seq<T> instrumented(Stream<? extends T> stream, String stage, MetricsSink sink) {
+
+        // elements, nanos, reported
+        long[] state = { 0L, 0L, 0L };
+        Runnable report = () -> {
+            if (state[2]++ == 0L)
+                sink.stage(stage, state[0], state[1]);
+        };
+
+        return SeqUtils.<T, T>transform(stream, (delegate, action) -> {
+            long start = System.nanoTime();
+            boolean advanced = delegate.tryAdvance(t -> {
+                state[0]++;
+                state[1] += System.nanoTime() - start;
+                action.accept(t);
+            });
+
+            if (!advanced) {
+                state[1] += System.nanoTime() - start;
+                report.run();
+            }
+
+            return advanced;
+        }).onClose(report);
+    }
+
     // Shortcuts to Collectors
     // -----------------------
 
@@ -9902,6 +10949,59 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
         Iterable.super.forEach(action);
     }
 
+    /**
+     * Perform an action for each element concurrently, in virtual threads if
+     * supported (see {@link Async#virtualThreadExecutor()}), with at most
+     * <code>maxConcurrency</code> actions in flight, and wait for all actions
+     * to complete.
+     *
+     * @see #forEachConcurrently(Consumer, int, Executor)
+     */
+    default Async.ForEachStats forEachConcurrently(Consumer<? super T> action, int maxConcurrency) {
+        return forEachConcurrently(action, maxConcurrency, Async.virtualThreadExecutor());
+    }
+
+    /**
+     * Perform an action for each element concurrently on an executor, with at
+     * most <code>maxConcurrency</code> actions in flight, and wait for all
+     * actions to complete.
+     * <p>
+     * This is useful for actions that block, e.g. on I/O. Elements are
+     * consumed lazily as permits become available, and this stream is closed
+     * when done. The first failure is rethrown, after pending elements have
+     * been skipped and running actions have been interrupted. If the calling
+     * thread is a {@link java.util.concurrent.ForkJoinPool} worker, waiting
+     * is managed as in {@link Blocking}.
+     *
+     * @see Async#forEach(Seq, Consumer, Executor, int)
+     */
+    default Async.ForEachStats forEachConcurrently(Consumer<? super T> action, int maxConcurrency, Executor executor) {
+        CompletableFuture<Async.ForEachStats> result = Async.forEach(this, action, executor, maxConcurrency).toCompletableFuture();
+
+        try {
+            return Blocking.supplier(result::join).get();
+        }
+        catch (CompletionException e) {
+            SeqUtils.sneakyThrow(e.getCause());
+            throw e;
+        }
+    }
+
+    /**
+     * Publish the elements of this stream to a single {@link Flow.Subscriber}.
+     * <p>
+     * Elements are pulled from this stream only as requested by the
+     * subscriber, and emitted on the executor, in batches of as many elements
+     * as have been requested. Failures of this stream are signalled with
+     * {@link Flow.Subscriber#onError(Throwable)}. This stream is closed when
+     * it is exhausted, when it fails, or when the subscription is cancelled.
+     * Any further subscriber is rejected with an
+     * {@link IllegalStateException}.
+     */
+    default Flow.Publisher<T> toPublisher(Executor executor) {
+        return SeqFlow.publisher(this, executor);
+    }
+
     // Debugging tools
     // ---------------
 
@@ -9912,7 +11012,42 @@ public interface Seq<T> extends Stream<T>, Iterable<T>, Collectable<T> {
      * is intended for debugging convenience only.
      */
     String format();
-    
+
+    /**
+     * Write a nicely formatted representation of this stream to an
+     * {@link Appendable}, e.g. a {@link java.io.Writer}.
+     * <p>
+     * Column widths are computed from all elements, which are buffered as
+     * text until the table is written. {@link IOException}'s thrown by the
+     * <code>Appendable</code> are wrapped by {@link UncheckedIOException}'s.
+     *
+     * @see #format()
+     */
+    default void format(Appendable out) {
+        format(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Write a nicely formatted representation of this stream to an
+     * {@link Appendable}, e.g. a {@link java.io.Writer}.
+     * <p>
+     * Column widths are computed from the first <code>sampleSize</code>
+     * elements only, after which all further elements are written as they
+     * are consumed, without being buffered. Values exceeding the sampled
+     * column widths are not truncated. {@link IOException}'s thrown by the
+     * <code>Appendable</code> are wrapped by {@link UncheckedIOException}'s.
+     *
+     * @see #format()
+     */
+    default void format(Appendable out, int sampleSize) {
+        try {
+            SeqFormatter.format(iterator(), out, sampleSize);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Print contents of this stream to {@link System#out}.
      */
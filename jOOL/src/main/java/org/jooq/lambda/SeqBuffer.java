@@ -18,19 +18,38 @@ import java.util.stream.Stream;
  */
 final class SeqBuffer<T> {
 
-    @SuppressWarnings("unchecked")
     static <T> SeqBuffer<T> of(Stream<? extends T> stream) {
-        return of((Spliterator<T>) stream.spliterator());
+        return of(stream, "SeqBuffer");
+    }
+
+    /**
+     * @param name The name under which the buffer size is reported to {@link SeqMetrics}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> SeqBuffer<T> of(Stream<? extends T> stream, String name) {
+        return of((Spliterator<T>) stream.spliterator(), name);
     }
 
     static <T> SeqBuffer<T> of(Spliterator<T> spliterator) {
+        return of(spliterator, "SeqBuffer");
+    }
+
+    static <T> SeqBuffer<T> of(Spliterator<T> spliterator, String name) {
         if (spliterator instanceof SeqBuffer.BufferSpliterator) {
             return ((SeqBuffer<T>.BufferSpliterator) spliterator).parentSeqBuffer(); // reuse existing SeqBuffer
         }
-        return new SeqBuffer<>(spliterator);
+        return new SeqBuffer<>(spliterator, name);
     }
 
     private final Spliterator<T> source;
+    private final String name;
+
+    /**
+     * The {@link JfrEvents} event of the buffering, if recorded.
+     *
+     * Guarded by: <code>buffer</code>
+     */
+    private Object event;
     private final List<T> buffer = new ArrayList<>();
 
     /**
@@ -42,8 +61,9 @@ final class SeqBuffer<T> {
      */
     private volatile boolean buffering = true;
 
-    private SeqBuffer(Spliterator<T> source) {
+    private SeqBuffer(Spliterator<T> source, String name) {
         this.source = Objects.requireNonNull(source);
+        this.name = name;
     }
 
     /**
@@ -121,12 +141,22 @@ final class SeqBuffer<T> {
             if (!canAdvanceSource) // check again after having synchronized
                 return false;
 
+            if (buffer.isEmpty() && event == null)
+                event = JfrEvents.begin(name.endsWith("Join") ? JfrEvents.JOIN : JfrEvents.BUFFER);
+
             do {
                 canAdvanceSource = source.tryAdvance(buffer::add);
             } while (canAdvanceSource && !canAdvanceThisAtOnce());
 
             // volatile-write (causes grown buffer and shrunk source to be visible to all threads upon next volatile-read)
             buffering = canAdvanceSource;
+
+            if (!canAdvanceSource) {
+                SeqMetrics.buffer(name, buffer.size());
+                JfrEvents.commit(event, name, buffer.size());
+                event = null;
+            }
+
             return true;
         }
 
@@ -0,0 +1,396 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bridges between pull based {@link Seq} and push based {@link Flow}
+ * pipelines, honouring demand in both directions.
+ *
+ * @author Lukas Eder
+ */
+final class SeqFlow {
+
+    private SeqFlow() {}
+
+    /**
+     * A publisher that emits the elements of a <code>Seq</code> to a single
+     * subscriber.
+     */
+    static <T> Flow.Publisher<T> publisher(Seq<T> seq, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+
+            if (subscribed.compareAndSet(false, true)) {
+                subscriber.onSubscribe(new SeqSubscription<>(seq, subscriber, executor));
+            }
+            else {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {}
+
+                    @Override
+                    public void cancel() {}
+                });
+                subscriber.onError(new IllegalStateException("A Seq can only be subscribed to once"));
+            }
+        };
+    }
+
+    /**
+     * A <code>Seq</code> that subscribes to a publisher when it is first
+     * consumed, and that buffers at most <code>prefetch</code> elements.
+     */
+    static <T> Seq<T> seq(Flow.Publisher<? extends T> publisher, int prefetch) {
+        Objects.requireNonNull(publisher, "publisher");
+
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+
+        PublisherIterator<T> iterator = new PublisherIterator<>(publisher, prefetch);
+        return Seq.seq(iterator).onClose(iterator::cancel);
+    }
+
+    /**
+     * Emits elements on the executor as long as there is outstanding demand.
+     * <p>
+     * Requests and cancellations increment a work-in-progress counter, and
+     * only the signal that increments it from zero schedules a drain, so at
+     * most one drain runs at any time, and the <code>Seq</code> is only ever
+     * consumed and closed by the draining thread.
+     */
+    private static final class SeqSubscription<T> implements Flow.Subscription, Runnable {
+        private final Seq<T>                       seq;
+        private final Flow.Subscriber<? super T>   subscriber;
+        private final Executor                     executor;
+        private final AtomicLong                   requested = new AtomicLong();
+        private final AtomicInteger                wip       = new AtomicInteger();
+        private volatile boolean                   cancelled;
+        private volatile IllegalArgumentException  invalid;
+
+        // Accessed only by the draining thread
+        private Iterator<T>                        iterator;
+        private boolean                            done;
+
+        SeqSubscription(Seq<T> seq, Flow.Subscriber<? super T> subscriber, Executor executor) {
+            this.seq = seq;
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0)
+                invalid = new IllegalArgumentException("Non-positive request: " + n);
+            else
+                requested.accumulateAndGet(n, (r, m) -> r + m < 0 ? Long.MAX_VALUE : r + m);
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                }
+                catch (RejectedExecutionException e) {
+                    done = true;
+                    subscriber.onError(close(e));
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+
+            for (;;) {
+                if (done)
+                    return;
+
+                long r = requested.get();
+                long e = 0L;
+
+                while (!terminated()) {
+                    if (e == r)
+                        break;
+
+                    T next;
+                    try {
+                        if (exhausted())
+                            return;
+
+                        next = iterator.next();
+                    }
+                    catch (Throwable t) {
+                        done = true;
+                        subscriber.onError(close(t));
+                        return;
+                    }
+
+                    try {
+                        subscriber.onNext(next);
+                    }
+                    catch (Throwable t) {
+
+                        // [Rule 2.13] A failing subscriber is considered cancelled
+                        cancelled = true;
+                        done = true;
+                        close(null);
+                        throw t;
+                    }
+
+                    e++;
+                }
+
+                if (done)
+                    return;
+
+                // Terminal signals need no demand. Don't make a subscriber
+                // that requested exactly all elements wait for onComplete()
+                if (e != 0L && e == r) {
+                    try {
+                        if (exhausted())
+                            return;
+                    }
+                    catch (Throwable t) {
+                        done = true;
+                        subscriber.onError(close(t));
+                        return;
+                    }
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        /**
+         * Signal <code>onComplete()</code> if there are no more elements,
+         * returning whether the subscription has terminated.
+         */
+        private boolean exhausted() {
+            if (iterator == null)
+                iterator = seq.iterator();
+
+            if (iterator.hasNext())
+                return false;
+
+            done = true;
+            Throwable failure = close(null);
+
+            if (failure == null)
+                subscriber.onComplete();
+            else
+                subscriber.onError(failure);
+
+            return true;
+        }
+
+        /**
+         * Handle cancellation and invalid requests, returning whether the
+         * subscription has terminated.
+         */
+        private boolean terminated() {
+            if (done)
+                return true;
+
+            if (cancelled) {
+                done = true;
+                close(null);
+                return true;
+            }
+
+            IllegalArgumentException e = invalid;
+            if (e != null) {
+                done = true;
+                subscriber.onError(close(e));
+                return true;
+            }
+
+            return false;
+        }
+
+        private Throwable close(Throwable failure) {
+            try {
+                seq.close();
+            }
+            catch (Throwable t) {
+                if (failure == null)
+                    return t;
+
+                failure.addSuppressed(t);
+            }
+
+            return failure;
+        }
+    }
+
+    /**
+     * Requests <code>prefetch</code> elements up front, and replenishes them
+     * in batches of three quarters of <code>prefetch</code> as they are
+     * consumed, so the buffer never holds more than <code>prefetch</code>
+     * elements.
+     */
+    private static final class PublisherIterator<T> implements Iterator<T>, Flow.Subscriber<T> {
+        private final Flow.Publisher<? extends T> publisher;
+        private final int                         prefetch;
+        private final int                         limit;
+
+        // Guarded by this
+        private final ChunkedQueue<T>             queue = new ChunkedQueue<>();
+        private Flow.Subscription                 subscription;
+        private boolean                           subscribed;
+        private boolean                           complete;
+        private boolean                           cancelled;
+        private Throwable                         error;
+        private int                               consumed;
+
+        PublisherIterator(Flow.Publisher<? extends T> publisher, int prefetch) {
+            this.publisher = publisher;
+            this.prefetch = prefetch;
+            this.limit = Math.max(1, prefetch - (prefetch >> 2));
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean subscribe;
+
+            synchronized (this) {
+                subscribe = !subscribed;
+                subscribed = true;
+            }
+
+            if (subscribe)
+                publisher.subscribe(this);
+
+            synchronized (this) {
+                while (queue.isEmpty() && !complete && error == null && !cancelled) {
+                    try {
+                        wait();
+                    }
+                    catch (InterruptedException e) {
+                        cancel();
+                        Unchecked.throwUnchecked(e);
+                    }
+                }
+
+                if (!queue.isEmpty())
+                    return true;
+                else if (error != null)
+                    Unchecked.throwUnchecked(error);
+
+                return false;
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            T result;
+            Flow.Subscription s = null;
+
+            synchronized (this) {
+                result = queue.poll();
+
+                if (++consumed == limit) {
+                    consumed = 0;
+                    s = subscription;
+                }
+            }
+
+            if (s != null)
+                s.request(limit);
+
+            return result;
+        }
+
+        void cancel() {
+            Flow.Subscription s;
+
+            synchronized (this) {
+                cancelled = true;
+                subscribed = true;
+                s = subscription;
+                queue.clear();
+                notifyAll();
+            }
+
+            if (s != null)
+                s.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            synchronized (this) {
+                if (subscription == null && !cancelled) {
+                    subscription = s;
+                    s = null;
+                }
+            }
+
+            // [Rule 2.5] Cancel any additional subscriptions
+            if (s != null)
+                s.cancel();
+            else
+                subscription.request(prefetch);
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+            if (!cancelled) {
+                queue.offer(item);
+                notifyAll();
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable throwable) {
+            error = throwable;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            complete = true;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jooq.lambda.tuple.Tuple;
+
+/**
+ * The table formatter behind {@link Seq#format()}.
+ * <p>
+ * Cell texts of the rows used to compute column widths are spilled into a
+ * single buffer with their end offsets, rather than into a
+ * <code>String[]</code> per row. Once the widths are known, the buffered rows
+ * are written to the output, followed by all remaining rows, which are
+ * streamed through a single row buffer. Padding is appended from a constant
+ * string of spaces.
+ *
+ * @author Lukas Eder
+ */
+final class SeqFormatter {
+
+    private static final String SPACES = "                                                                ";
+    private static final String DASHES = "----------------------------------------------------------------";
+    private static final byte   NUMBER = 1;
+    private static final byte   OTHER  = 2;
+
+    private SeqFormatter() {}
+
+    /**
+     * Format rows to an {@link Appendable}, computing column widths from the
+     * first <code>sampleSize</code> rows.
+     */
+    static void format(Iterator<?> rows, Appendable out, int sampleSize) throws IOException {
+        if (sampleSize <= 0)
+            throw new IllegalArgumentException("sampleSize must be positive: " + sampleSize);
+
+        StringBuilder spill = new StringBuilder();
+        int[] ends = new int[16];
+        int cells = 0;
+        int sampled = 0;
+        int[] widths = null;
+        byte[] kinds = null;
+
+        while (sampled < sampleSize && rows.hasNext()) {
+            Object[] array = array(rows.next());
+
+            if (widths == null) {
+                widths = new int[array.length];
+                kinds = new byte[array.length];
+
+                for (int l = 0; l < widths.length; l++)
+                    widths[l] = Math.max(2, header(l).length());
+            }
+
+            for (int l = 0; l < widths.length; l++) {
+                Object o = array[l];
+
+                if (kinds[l] == 0 && o != null)
+                    kinds[l] = o instanceof Number ? NUMBER : OTHER;
+
+                int start = spill.length();
+                append(spill, o);
+
+                if (cells == ends.length)
+                    ends = Arrays.copyOf(ends, cells << 1);
+
+                ends[cells++] = spill.length();
+                widths[l] = Math.max(widths[l], spill.length() - start);
+            }
+
+            sampled++;
+        }
+
+        if (sampled == 0) {
+            out.append("(empty seq)");
+            return;
+        }
+
+        String separator = separator(widths);
+        out.append(separator).append("| ");
+        for (int l = 0; l < widths.length; l++) {
+            if (l > 0)
+                out.append(" | ");
+
+            String header = header(l);
+            pad(out, header, 0, header.length(), widths[l], kinds[l] == NUMBER);
+        }
+        out.append(" |\n").append(separator);
+
+        for (int r = 0; r < sampled; r++)
+            row(out, spill, ends, r * widths.length, widths, kinds);
+
+        // Rows beyond the sample are streamed, and may exceed the sampled widths
+        if (rows.hasNext()) {
+            spill = null;
+            ends = null;
+
+            StringBuilder row = new StringBuilder();
+            int[] rowEnds = new int[widths.length];
+
+            while (rows.hasNext()) {
+                Object[] array = array(rows.next());
+                row.setLength(0);
+
+                for (int l = 0; l < widths.length; l++) {
+                    append(row, array[l]);
+                    rowEnds[l] = row.length();
+                }
+
+                row(out, row, rowEnds, 0, widths, kinds);
+            }
+        }
+
+        out.append(separator);
+    }
+
+    private static Object[] array(Object row) {
+        return row instanceof Tuple
+             ? ((Tuple) row).toArray()
+             : new Object[] { row };
+    }
+
+    private static String header(int column) {
+        return "v" + (column + 1);
+    }
+
+    private static void append(StringBuilder sb, Object o) {
+        sb.append(o instanceof Optional
+            ? ((Optional<?>) o).map(Objects::toString).orElse("{empty}")
+            : Objects.toString(o));
+    }
+
+    private static String separator(int[] widths) {
+        StringBuilder sb = new StringBuilder("+-");
+
+        for (int l = 0; l < widths.length; l++) {
+            if (l > 0)
+                sb.append("-+-");
+
+            repeat(sb, DASHES, widths[l]);
+        }
+
+        return sb.append("-+\n").toString();
+    }
+
+    private static void row(Appendable out, CharSequence text, int[] ends, int offset, int[] widths, byte[] kinds) throws IOException {
+        out.append("| ");
+
+        for (int l = 0; l < widths.length; l++) {
+            if (l > 0)
+                out.append(" | ");
+
+            pad(out, text, offset + l == 0 ? 0 : ends[offset + l - 1], ends[offset + l], widths[l], kinds[l] == NUMBER);
+        }
+
+        out.append(" |\n");
+    }
+
+    private static void pad(Appendable out, CharSequence text, int start, int end, int width, boolean number) throws IOException {
+        if (number)
+            repeat(out, SPACES, width - (end - start));
+
+        out.append(text, start, end);
+
+        if (!number)
+            repeat(out, SPACES, width - (end - start));
+    }
+
+    private static void repeat(Appendable out, String chars, int n) throws IOException {
+        for (; n > 0; n -= chars.length())
+            out.append(chars, 0, Math.min(n, chars.length()));
+    }
+
+    private static void repeat(StringBuilder sb, String chars, int n) {
+        for (; n > 0; n -= chars.length())
+            sb.append(chars, 0, Math.min(n, chars.length()));
+    }
+}
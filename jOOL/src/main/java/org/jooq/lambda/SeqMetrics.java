@@ -0,0 +1,60 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+/**
+ * A global hook for {@link Seq} buffer metrics.
+ * <p>
+ * Buffer metrics are disabled by default. Buffering operators check for a
+ * registered sink only once per stream or when a buffer is complete, so there
+ * is no per element overhead when disabled.
+ *
+ * @author Lukas Eder
+ */
+public final class SeqMetrics {
+
+    private static volatile MetricsSink sink;
+
+    /**
+     * Register a global {@link MetricsSink}, or <code>null</code> to disable
+     * buffer metrics.
+     * <p>
+     * Streams that are created afterwards report to the new sink. Streams
+     * that are already running may or may not report their buffers to it,
+     * as some operators look up the sink when their stream is created, and
+     * others (e.g. {@link Seq#duplicate()}) only when a buffer is complete.
+     */
+    public static void sink(MetricsSink metricsSink) {
+        sink = metricsSink;
+    }
+
+    /**
+     * The global {@link MetricsSink}, or <code>null</code> if buffer metrics
+     * are disabled.
+     */
+    public static MetricsSink sink() {
+        return sink;
+    }
+
+    static void buffer(String buffer, long highWaterMark) {
+        MetricsSink s = sink;
+
+        if (s != null)
+            s.buffer(buffer, highWaterMark);
+    }
+
+    private SeqMetrics() {}
+}
@@ -15,7 +15,8 @@
  */
 package org.jooq.lambda;
 
-import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,6 +31,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Comparator.comparing;
 import static org.jooq.lambda.Seq.seq;
@@ -95,22 +97,147 @@ class SeqUtils {
         }).onClose(stream::close);
     }
     
-    static <T> Map<?, Partition<T>> partitions(WindowSpecification<T> window, List<Tuple2<T, Long>> input) {
-        return seq(input).groupBy(
+    /**
+     * Record a {@link JfrEvents#FULL_BUFFER} event for a stream that buffers
+     * all elements before emitting the first one, e.g. a sorted stream.
+     * <p>
+     * The event lasts from the first request to the first emitted element (or
+     * the first split). If the event isn't recorded, the stream is returned
+     * unchanged. Otherwise, its spliterator is wrapped in one that keeps its
+     * characteristics, size, comparator and splits, such that recording
+     * doesn't change how the stream is processed.
+     */
+    static <T> Seq<T> recordFullBuffer(String operation, Stream<T> stream) {
+        if (!JfrEvents.isEnabled(JfrEvents.FULL_BUFFER))
+            return seq(stream);
+
+        FullBufferSpliterator<T> recording = new FullBufferSpliterator<>(operation, stream.spliterator());
+        return seq(StreamSupport.stream(recording, stream.isParallel()))
+            .onClose(stream::close)
+            .onClose(recording::commit);
+    }
+
+    static final class FullBufferSpliterator<T> implements Spliterator<T> {
+        final String         operation;
+        final Spliterator<T> delegate;
+        Object               event;
+        long                 size;
+        boolean              started;
+        boolean              ended;
+        boolean              committed;
+
+        FullBufferSpliterator(String operation, Spliterator<T> delegate) {
+            this.operation = operation;
+            this.delegate = delegate;
+        }
+
+        private void start() {
+            if (!started) {
+                started = true;
+                event = JfrEvents.begin(JfrEvents.FULL_BUFFER);
+            }
+        }
+
+        private void end() {
+            if (!ended) {
+                ended = true;
+                JfrEvents.end(event);
+            }
+        }
+
+        void commit() {
+            if (started && !committed) {
+                committed = true;
+                end();
+                JfrEvents.commit(event, operation, size);
+            }
+        }
+
+        private Consumer<T> counting(Consumer<? super T> action) {
+            return t -> {
+                if (size++ == 0L)
+                    end();
+
+                action.accept(t);
+            };
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            start();
+
+            if (delegate.tryAdvance(counting(action)))
+                return true;
+
+            commit();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            start();
+            delegate.forEachRemaining(counting(action));
+            commit();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            start();
+            Spliterator<T> prefix = delegate.trySplit();
+
+            // The delegate has buffered its input by the time it can split it
+            if (prefix != null) {
+                end();
+                size += Math.max(0L, prefix.getExactSizeIfKnown());
+            }
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return delegate.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+
+    static <T> Map<?, Partition<T>> partitions(WindowSpecification<T> window, List<ObjLongTuple2<T>> input) {
+        Object event = JfrEvents.begin(JfrEvents.WINDOW);
+        Map<?, Partition<T>> partitions = seq(input).groupBy(
             window.partition().compose(t -> t.v1), 
             Collector.<
-                Tuple2<T, Long>,
-                Collection<Tuple2<T, Long>>,
+                ObjLongTuple2<T>,
+                Collection<ObjLongTuple2<T>>,
                 Partition<T>
             >of(
                 () -> window.order().isPresent()
-                    ? new TreeSet<>(comparing((Tuple2<T, Long> t) -> t.v1, window.order().get()).thenComparing(t -> t.v2))
+                    ? new TreeSet<>(comparing((ObjLongTuple2<T> t) -> t.v1, window.order().get()).thenComparingLong(t -> t.v2))
                     : new ArrayList<>(),
                 Collection::add,
                 (s1, s2) -> { s1.addAll(s2); return s1; },
                 Partition::new
             )
         );
+
+        if (SeqMetrics.sink() != null)
+            SeqMetrics.buffer("window", seq(partitions.values()).mapToLong(p -> p.size).max().orElse(0L));
+
+        JfrEvents.commit(event, "window", input.size());
+        return partitions;
     }
 
     static <T> OptionalLong indexOf(Iterator<T> iterator, Predicate<? super T> predicate) {
@@ -121,6 +248,31 @@ class SeqUtils {
         return OptionalLong.empty();
     }
     
+    /**
+     * Join the string representations of all elements into a builder that is
+     * presized from the stream's size, if it is known.
+     */
+    static String toString(Stream<?> stream, CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        Spliterator<?> spliterator = stream.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+
+        // Assume at least one character per element, without presizing huge buffers eagerly
+        long capacity = prefix.length() + suffix.length() + Math.max(0L, size) * (delimiter.length() + 1);
+        return seq(spliterator).joinTo(new StringBuilder((int) Math.min(capacity, 1 << 20)), delimiter, prefix, suffix).toString();
+    }
+
+    /**
+     * Apply a checked function, capturing its outcome in an {@link Either}.
+     */
+    static <T, R> Either<R> tryApply(CheckedFunction<? super T, ? extends R> function, T t) {
+        try {
+            return Either.<R>success(function.apply(t));
+        }
+        catch (Throwable e) {
+            return Either.failure(e);
+        }
+    }
+
     /**
      * Sneaky throw any type of Throwable.
      */
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+/**
+ * Where the primitive hash tables of collectors like
+ * {@link Agg#countDistinctByLong(java.util.function.ToLongFunction, TableStorage)}
+ * keep their keys and accumulators.
+ *
+ * @author Lukas Eder
+ */
+public enum TableStorage {
+
+    /**
+     * Keys and accumulators are kept in <code>long[]</code> arrays on the
+     * heap.
+     */
+    HEAP,
+
+    /**
+     * Keys and accumulators are kept in direct <code>ByteBuffer</code>s
+     * outside of the heap, which keeps very large tables away from the
+     * garbage collector. Tables start out larger than on the heap, as each
+     * allocation has a fixed cost.
+     * <p>
+     * Where <code>sun.misc.Unsafe.invokeCleaner()</code> is available (i.e.
+     * the <code>jdk.unsupported</code> module is present), the memory of a
+     * table is freed as soon as it is outgrown, merged into another table, or
+     * the collector has produced its result. Otherwise, and if the collection
+     * fails before producing a result, the memory is released only when the
+     * buffers are garbage collected.
+     */
+    OFF_HEAP;
+
+    private static final int HEAP_INITIAL_SIZE     = 16;
+    private static final int OFF_HEAP_INITIAL_SIZE = 1 << 12;
+
+    /**
+     * A new, empty table.
+     */
+    LongLongTable table() {
+        return this == HEAP
+             ? new LongLongTable.Heap(HEAP_INITIAL_SIZE)
+             : new LongLongTable.OffHeap(OFF_HEAP_INITIAL_SIZE);
+    }
+}
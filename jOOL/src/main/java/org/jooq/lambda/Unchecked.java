@@ -51,6 +51,16 @@ public final class Unchecked {
      */
     public static final Consumer<Throwable> RETHROW_ALL = SeqUtils::sneakyThrow;
 
+    /**
+     * A {@link Consumer} that wraps checked exceptions like
+     * {@link #THROWABLE_TO_RUNTIME_EXCEPTION}, but without filling in the
+     * wrappers' stack traces.
+     * <p>
+     * Use this where checked exceptions are expected control flow, e.g.
+     * <code>Unchecked.function(Integer::parseInt, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION)</code>.
+     */
+    public static final Consumer<Throwable> THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION = Unchecked::throwUncheckedStackless;
+
 
 
     /**
@@ -80,6 +90,44 @@ public final class Unchecked {
         throw new UncheckedException(t);
     }
 
+    /**
+     * An Unchecked strategy to handle Throwable: wrap checked exceptions in a
+     * {@link RuntimeException} without a stack trace of its own.
+     * <p>
+     * Unchecked exceptions, including {@link UncheckedException#sentinel(String)}
+     * instances, are rethrown as they are, never re-wrapped.
+     */
+    public static void throwUncheckedStackless(Throwable t) throws UncheckedException, UncheckedIOException, RuntimeException, Error {
+        if (t instanceof Error)
+            throw (Error) t;
+
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+
+        if (t instanceof IOException)
+            throw new StacklessUncheckedIOException((IOException) t);
+
+        // [#230] Clients will not expect needing to handle this.
+        if (t instanceof InterruptedException)
+            Thread.currentThread().interrupt();
+
+        throw UncheckedException.stackless(t);
+    }
+
+    private static final class StacklessUncheckedIOException extends UncheckedIOException {
+
+        private static final long serialVersionUID = 1L;
+
+        StacklessUncheckedIOException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
     // Wrappers for java.lang.Runnable
     // -----------------------------------------------------------------------------------------------------------------
@@ -18,6 +18,14 @@ package org.jooq.lambda;
 /**
  * A generic unchecked exception that wraps checked exceptions thrown from lambdas passed
  * to any of {@link Unchecked}'s methods.
+ * <p>
+ * When exceptions are used for expected control flow, e.g. in
+ * <code>Seq.map(Unchecked.function(...))</code>, filling in stack traces can
+ * dominate the cost of a pipeline. For such cases, {@link #stackless(Throwable)}
+ * wraps an exception without filling in the wrapper's stack trace, and
+ * {@link #sentinel(String)} creates a preallocated exception that can be
+ * thrown repeatedly, and whose {@link Either#failure(Throwable)} is
+ * preallocated as well.
  *
  * @author Lukas Eder
  */
@@ -25,7 +33,50 @@ public class UncheckedException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The preallocated failure of a {@link #sentinel(String)}, or <code>null</code>.
+     */
+    final transient Either<?> failure;
+
     public UncheckedException(Throwable cause) {
         super(cause);
+
+        this.failure = null;
+    }
+
+    private UncheckedException(String message, Throwable cause, boolean sentinel) {
+
+        // Sentinels are shared, so they must not accumulate suppressed exceptions
+        super(message, cause, !sentinel, false);
+
+        this.failure = sentinel ? Either.failure(this) : null;
+    }
+
+    /**
+     * Wrap a <code>cause</code> without filling in the wrapper's stack trace.
+     * <p>
+     * The cause's own stack trace is left untouched.
+     */
+    public static UncheckedException stackless(Throwable cause) {
+        return new UncheckedException(cause == null ? null : cause.toString(), cause, false);
+    }
+
+    /**
+     * Create a reusable exception without a stack trace or suppressed
+     * exceptions, to be kept in a constant and thrown for expected failures.
+     * <p>
+     * <pre><code>
+     * static final UncheckedException NOT_FOUND = UncheckedException.sentinel("not found");
+     * </code></pre>
+     */
+    public static UncheckedException sentinel(String message) {
+        return new UncheckedException(message, null, true);
+    }
+
+    /**
+     * Whether this exception was created by {@link #sentinel(String)}.
+     */
+    public boolean isSentinel() {
+        return failure != null;
     }
 }
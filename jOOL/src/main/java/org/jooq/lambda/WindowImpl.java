@@ -15,7 +15,7 @@
  */
 package org.jooq.lambda;
 
-import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -34,8 +34,6 @@ import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.binarySearch;
-import static java.util.Comparator.comparing;
 import static java.util.Comparator.naturalOrder;
 import static org.jooq.lambda.Seq.seq;
 import static org.jooq.lambda.tuple.Tuple.tuple;
@@ -45,7 +43,7 @@ import static org.jooq.lambda.tuple.Tuple.tuple;
  */
 class WindowImpl<T> implements Window<T> {
     
-    final Tuple2<T, Long>       value;
+    final ObjLongTuple2<T>      value;
     final int                   index;
     final Partition<T>          partition;
     final Comparator<? super T> order;
@@ -54,7 +52,7 @@ class WindowImpl<T> implements Window<T> {
 
     @SuppressWarnings({ "unchecked" })
     WindowImpl(
-        Tuple2<T, Long> value,
+        ObjLongTuple2<T> value,
         Partition<T> partition, 
         WindowSpecification<T> specification
     ) {
@@ -64,9 +62,7 @@ class WindowImpl<T> implements Window<T> {
         this.lower = specification.lower();
         this.upper = specification.upper();
         
-        int i = specification.order().isPresent()
-              ? binarySearch(partition.list, value, comparing((Tuple2<T, Long> t) -> t.v1, specification.order().get()).thenComparing(t -> t.v2))
-              : binarySearch(partition.list, value, comparing(t -> t.v2));
+        int i = partition.indexOf(value.v1, value.v2, specification.order().orElse(null));
         this.index = (i >= 0 ? i : -i - 1);
     }
 
@@ -80,7 +76,11 @@ class WindowImpl<T> implements Window<T> {
     
     @Override
     public Seq<T> window() {
-        return Seq.seq(partition.list.subList(lower(), upper() + 1)).map(t -> t.v1);
+        return partition.window(lower(), upper() + 1);
+    }
+
+    private <U> Seq<U> window(Function<? super T, ? extends U> function) {
+        return partition.window(function, lower(), upper() + 1);
     }
 
     // Utilities
@@ -93,21 +93,21 @@ class WindowImpl<T> implements Window<T> {
     
     private boolean lowerInPartition() {
         // TODO: What about under/overflows?
-        return lower == Long.MIN_VALUE || (index + lower >= 0L && index + lower < partition.list.size());
+        return lower == Long.MIN_VALUE || (index + lower >= 0L && index + lower < partition.size);
     }
     
     private int upper() {
         // TODO: What about under/overflows?
-        return upper == Long.MAX_VALUE ? partition.list.size() - 1 : (int) Math.min(partition.list.size() - 1, (index + upper));
+        return upper == Long.MAX_VALUE ? partition.size - 1 : (int) Math.min(partition.size - 1, (index + upper));
     }
     
     private boolean upperInPartition() {
         // TODO: What about under/overflows?
-        return upper == Long.MAX_VALUE || (index + upper >= 0L && index + upper < partition.list.size());
+        return upper == Long.MAX_VALUE || (index + upper >= 0L && index + upper < partition.size);
     }
     
     private boolean completePartition() {
-        return count() == partition.list.size();
+        return count() == partition.size;
     }
     
     // Ranking functions
@@ -120,22 +120,22 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public long rank() {
-        return seq(partition.list).map(t -> t.v1).collect(Agg.rank(value.v1, order)).get();
+        return seq(partition.values).collect(Agg.rank(value.v1, order)).get();
     }
 
     @Override
     public long denseRank() {
-        return seq(partition.list).map(t -> t.v1).collect(Agg.denseRank(value.v1, order)).get();
+        return seq(partition.values).collect(Agg.denseRank(value.v1, order)).get();
     }
 
     @Override
     public double percentRank() {
-        return ((double) rank()) / ((double) (partition.list.size() - 1));
+        return ((double) rank()) / ((double) (partition.size - 1));
     }
 
     @Override
     public long ntile(long bucket) {
-        return (bucket * rowNumber() / partition.list.size());
+        return (bucket * rowNumber() / partition.size);
     }
 
     @Override
@@ -161,8 +161,8 @@ class WindowImpl<T> implements Window<T> {
     private Optional<T> lead0(long lead) {
         if (lead == 0)
             return Optional.of(value.v1);
-        else if (index + lead >= 0 && index + lead < partition.list.size())
-            return Optional.of(partition.list.get(index + (int) lead).v1);
+        else if (index + lead >= 0 && index + lead < partition.size)
+            return Optional.of(partition.values[index + (int) lead]);
         else
             return Optional.empty();
     }
@@ -175,9 +175,9 @@ class WindowImpl<T> implements Window<T> {
     @Override
     public <U> Optional<U> firstValue(Function<? super T, ? extends U> function) {
         return lowerInPartition()
-             ? Optional.of(function.apply(partition.list.get(lower()).v1))
+             ? Optional.of(function.apply(partition.values[lower()]))
              : upperInPartition()
-             ? Optional.of(function.apply(partition.list.get(0).v1))
+             ? Optional.of(function.apply(partition.values[0]))
              : Optional.empty();
     }
 
@@ -189,9 +189,9 @@ class WindowImpl<T> implements Window<T> {
     @Override
     public <U> Optional<U> lastValue(Function<? super T, ? extends U> function) {
         return upperInPartition()
-             ? Optional.of(function.apply(partition.list.get(upper()).v1))
+             ? Optional.of(function.apply(partition.values[upper()]))
              : lowerInPartition()
-             ? Optional.of(function.apply(partition.list.get(partition.list.size() - 1).v1))
+             ? Optional.of(function.apply(partition.values[partition.size - 1]))
              : Optional.empty();
     }
 
@@ -203,7 +203,7 @@ class WindowImpl<T> implements Window<T> {
     @Override
     public <U> Optional<U> nthValue(long n, Function<? super T, ? extends U> function) {
         return lower() + n <= upper()
-             ? Optional.of(function.apply(partition.list.get(lower() + (int) n).v1))
+             ? Optional.of(function.apply(partition.values[lower() + (int) n]))
              : Optional.empty();
     }
     
@@ -247,22 +247,22 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U> Optional<U> sum(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("sum", function), () -> window().sum(function));
+        return partition.cacheIf(completePartition(), () -> tuple("sum", function), () -> this.<U>window(function).sum());
     }
 
     @Override
     public int sumInt(ToIntFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("sumInt", function), () -> window().sumInt(function));
+        return partition.cacheIf(completePartition(), () -> tuple("sumInt", function), () -> partition.intWindow(function, lower(), upper() + 1).sum());
     }
 
     @Override
     public long sumLong(ToLongFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("sumLong", function), () -> window().sumLong(function));
+        return partition.cacheIf(completePartition(), () -> tuple("sumLong", function), () -> partition.longWindow(function, lower(), upper() + 1).sum());
     }
 
     @Override
     public double sumDouble(ToDoubleFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("sumDouble", function), () -> window().sumDouble(function));
+        return partition.cacheIf(completePartition(), () -> tuple("sumDouble", function), () -> partition.doubleWindow(function, lower(), upper() + 1).sum());
     }
 
     @Override
@@ -272,22 +272,22 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U> Optional<U> avg(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("avg", function), () -> window().avg(function));
+        return partition.cacheIf(completePartition(), () -> tuple("avg", function), () -> this.<U>window(function).avg());
     }
 
     @Override
     public double avgInt(ToIntFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("avgInt", function), () -> window().avgInt(function));
+        return partition.cacheIf(completePartition(), () -> tuple("avgInt", function), () -> partition.intWindow(function, lower(), upper() + 1).average().orElse(0.0));
     }
 
     @Override
     public double avgLong(ToLongFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("avgLong", function), () -> window().avgLong(function));
+        return partition.cacheIf(completePartition(), () -> tuple("avgLong", function), () -> partition.longWindow(function, lower(), upper() + 1).average().orElse(0.0));
     }
 
     @Override
     public double avgDouble(ToDoubleFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("avgDouble", function), () -> window().avgDouble(function));
+        return partition.cacheIf(completePartition(), () -> tuple("avgDouble", function), () -> partition.doubleWindow(function, lower(), upper() + 1).average().orElse(0.0));
     }
 
     @Override
@@ -303,12 +303,12 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U extends Comparable<? super U>> Optional<U> min(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("min", function), () -> window().min(function));
+        return partition.cacheIf(completePartition(), () -> tuple("min", function), () -> window(function).min(t -> t));
     }
 
     @Override
     public <U> Optional<U> min(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-        return partition.cacheIf(completePartition(), () -> tuple("min", function, comparator), () -> window().min(function, comparator));
+        return partition.cacheIf(completePartition(), () -> tuple("min", function, comparator), () -> window(function).min(t -> t, comparator));
     }
 
     @Override
@@ -334,12 +334,12 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U extends Comparable<? super U>> Seq<U> minAll(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("minAll", function), () -> window().minAll(function));
+        return partition.cacheIf(completePartition(), () -> tuple("minAll", function), () -> window(function).minAll(t -> t));
     }
 
     @Override
     public <U> Seq<U> minAll(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-        return partition.cacheIf(completePartition(), () -> tuple("minAll", function, comparator), () -> window().minAll(function, comparator));
+        return partition.cacheIf(completePartition(), () -> tuple("minAll", function, comparator), () -> window(function).minAll(t -> t, comparator));
     }
 
     @Override
@@ -365,12 +365,12 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U extends Comparable<? super U>> Optional<U> max(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("max", function), () -> window().max(function));
+        return partition.cacheIf(completePartition(), () -> tuple("max", function), () -> window(function).max(t -> t));
     }
 
     @Override
     public <U> Optional<U> max(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-        return partition.cacheIf(completePartition(), () -> tuple("max", function, comparator), () -> window().max(function, comparator));
+        return partition.cacheIf(completePartition(), () -> tuple("max", function, comparator), () -> window(function).max(t -> t, comparator));
     }
 
     @Override
@@ -396,12 +396,12 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U extends Comparable<? super U>> Seq<U> maxAll(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("maxAll", function), () -> window().maxAll(function));
+        return partition.cacheIf(completePartition(), () -> tuple("maxAll", function), () -> window(function).maxAll(t -> t));
     }
 
     @Override
     public <U> Seq<U> maxAll(Function<? super T, ? extends U> function, Comparator<? super U> comparator) {
-        return partition.cacheIf(completePartition(), () -> tuple("maxAll", function, comparator), () -> window().maxAll(function, comparator));
+        return partition.cacheIf(completePartition(), () -> tuple("maxAll", function, comparator), () -> window(function).maxAll(t -> t, comparator));
     }
 
     @Override
@@ -498,17 +498,17 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U> Optional<U> bitAnd(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitAnd", function), () -> window().bitAnd(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitAnd", function), () -> this.<U>window(function).bitAnd());
     }
 
     @Override
     public int bitAndInt(ToIntFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitAndInt", function), () -> window().bitAndInt(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitAndInt", function), () -> partition.intWindow(function, lower(), upper() + 1).reduce(Integer.MAX_VALUE, (i1, i2) -> i1 & i2));
     }
 
     @Override
     public long bitAndLong(ToLongFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitAndLong", function), () -> window().bitAndLong(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitAndLong", function), () -> partition.longWindow(function, lower(), upper() + 1).reduce(Long.MAX_VALUE, (l1, l2) -> l1 & l2));
     }
 
     @Override
@@ -518,17 +518,17 @@ class WindowImpl<T> implements Window<T> {
 
     @Override
     public <U> Optional<U> bitOr(Function<? super T, ? extends U> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitOr", function), () -> window().bitOr(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitOr", function), () -> this.<U>window(function).bitOr());
     }
 
     @Override
     public int bitOrInt(ToIntFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitOrInt", function), () -> window().bitOrInt(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitOrInt", function), () -> partition.intWindow(function, lower(), upper() + 1).reduce(0, (i1, i2) -> i1 | i2));
     }
 
     @Override
     public long bitOrLong(ToLongFunction<? super T> function) {
-        return partition.cacheIf(completePartition(), () -> tuple("bitOrLong", function), () -> window().bitOrLong(function));
+        return partition.cacheIf(completePartition(), () -> tuple("bitOrLong", function), () -> partition.longWindow(function, lower(), upper() + 1).reduce(0L, (l1, l2) -> l1 | l2));
     }
 
     @Override
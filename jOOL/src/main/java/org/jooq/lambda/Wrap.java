@@ -51,6 +51,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -127,6 +129,30 @@ public class Wrap {
    */
   public static final Thread.UncaughtExceptionHandler LOG_WARN_UNCAUGHT_EXCEPTION_HANDLER = LOGGER;
 
+  /**
+   Shared by all *_LOG_WARN_THROTTLED handlers: at most 10 full warnings per second per exception signature
+   (exception class + call site in the application), "Suppressed N" summaries for the rest every minute.
+   See {@link #logWarnThrottled(int, long)} for a separately configured handler.
+   */
+  private static final LambdaLogFacade THROTTLED_LOGGER = LOGGER.throttled(10, 60_000);
+
+  /**
+   * Like {@link #LOG_WARN}, but rate-limited per exception signature, for hot loops and streams where
+   * the same failure can repeat thousands of times per second.
+   * Usage ~ SILENT_IGNORE_ALL.andThen(LOG_WARN_THROTTLED)
+   */
+  public static final Consumer<Throwable> LOG_WARN_THROTTLED = t -> THROTTLED_LOGGER.warn("C_LOG_WARN", t);
+
+  /**
+   * A rate-limited log.warn(msg, Throwable) handler with its own limits: at most permitsPerSecond full warnings
+   * per second per exception signature, and a "Suppressed N" summary per signature every summaryIntervalMillis.
+   * Create one per call site to throttle call sites independently.
+   */
+  public static Consumer<Throwable> logWarnThrottled (int permitsPerSecond, long summaryIntervalMillis) {
+    LambdaLogFacade logger = LOGGER.throttled(permitsPerSecond, summaryIntervalMillis);
+    return t -> logger.warn("C_LOG_WARN", t);
+  }
+
   // Safe
 
   public static final Predicate2<Object,Throwable> P1_SILENT_IGNORE_ALL_FALSE = (a,t) -> silentIgnoreAll(t, false);
@@ -137,6 +163,10 @@ public class Wrap {
 
   public static final Predicate2<Object,Throwable> P1_LOG_WARN_TRUE = (a,t) -> logWarn(t, true, a);
 
+  public static final Predicate2<Object,Throwable> P1_LOG_WARN_THROTTLED_FALSE = (a,t) -> logWarn(THROTTLED_LOGGER, t, false, a);
+
+  public static final Predicate2<Object,Throwable> P1_LOG_WARN_THROTTLED_TRUE = (a,t) -> logWarn(THROTTLED_LOGGER, t, true, a);
+
 
   public static final Predicate3<Object,Object,Throwable> P2_SILENT_IGNORE_ALL_FALSE = (a,b,t) -> silentIgnoreAll(t, false);
 
@@ -146,6 +176,10 @@ public class Wrap {
 
   public static final Predicate3<Object,Object,Throwable> P2_LOG_WARN_TRUE = (a,b,t) -> logWarn(t, true, a, b);
 
+  public static final Predicate3<Object,Object,Throwable> P2_LOG_WARN_THROTTLED_FALSE = (a,b,t) -> logWarn(THROTTLED_LOGGER, t, false, a, b);
+
+  public static final Predicate3<Object,Object,Throwable> P2_LOG_WARN_THROTTLED_TRUE = (a,b,t) -> logWarn(THROTTLED_LOGGER, t, true, a, b);
+
 
   private static boolean silentIgnoreAll (Throwable t, boolean returnValue) {
     throwIfError(t);
@@ -153,23 +187,31 @@ public class Wrap {
   }
 
   private static boolean logWarn (Throwable t, boolean returnValue, Object a) {
-    LOGGER.warn("P1_LOG_WARN_"+returnValue+": "+a, t);
-    return returnValue;
+    return logWarn(LOGGER, t, returnValue, a);
   }
 
   private static boolean logWarn (Throwable t, boolean returnValue, Object a, Object b) {
-    LOGGER.warn("P2_LOG_WARN_"+returnValue+": "+a+", "+b, t);
+    return logWarn(LOGGER, t, returnValue, a, b);
+  }
+
+  private static boolean logWarn (LambdaLogFacade logger, Throwable t, boolean returnValue, Object a) {
+    logger.warn(returnValue ? "P1_LOG_WARN_true: {}" : "P1_LOG_WARN_false: {}", a, t);
+    return returnValue;
+  }
+
+  private static boolean logWarn (LambdaLogFacade logger, Throwable t, boolean returnValue, Object a, Object b) {
+    logger.warn(returnValue ? "P2_LOG_WARN_true: {}, {}" : "P2_LOG_WARN_false: {}, {}", a, b, t);
     return returnValue;
   }
 
 
   private static <T> T logWarnFun (Throwable t, T returnValue, Object a) {
-    LOGGER.warn("F1_LOG_WARN_"+returnValue+": "+a, t);
+    LOGGER.warn("F1_LOG_WARN_{}: {}", returnValue, a, t);
     return returnValue;
   }
 
   private static <T> T logWarnFun (Throwable t, T returnValue, Object a, Object b) {
-    LOGGER.warn("F2_LOG_WARN_"+returnValue+": "+a+", "+b, t);
+    LOGGER.warn("F2_LOG_WARN_{}: {}, {}", returnValue, a, b, t);
     return returnValue;
   }
 
@@ -271,7 +313,7 @@ public class Wrap {
    @see #throwIfError */
   public static void handleThrowable (Object action, Throwable t) throws Error {
     throwIfError(t);
-    LOGGER.warn("handleThrowable in "+action, t);
+    LOGGER.warn("handleThrowable in {}", action, t);
   }
 
 
@@ -404,6 +446,125 @@ public class Wrap {
     };
   }
 
+  // Resilience
+
+
+  /** Wraps unsafeFunction to retry failed calls according to the policy.
+   Returns the first successful result, or the last failure as {@link Either}.
+   Compose with {@link #circuitBreaker} or {@link #bulkhead} through {@link Either#call}:
+   guarded = circuitBreaker(fn, breaker); retrying(v -&gt; guarded.apply(v).call(), policy) */
+  public static <T,R> Function<T,Either<R>> retrying (CheckedFunction<T,R> unsafeFunction, RetryPolicy policy) {
+    return (value) -> {
+      for (int attempt = 1; ; attempt++) {
+        try {
+          return Either.success(unsafeFunction.apply(value));
+        } catch (Throwable t) {
+          if (!policy.awaitRetry(t, attempt)) {
+            return Either.failure(t);
+          }
+        }
+      }
+    };
+  }
+
+  /** {@link #retrying(CheckedFunction, RetryPolicy)} for {@link CheckedCallable} (and CheckedSupplier: supplier::get).
+   The result is also a {@link java.util.function.Supplier} */
+  public static <V> SafeCallable<Either<V>> retrying (CheckedCallable<V> callable, RetryPolicy policy) {
+    return (SafeCallable.Generated<Either<V>>)() -> {
+      for (int attempt = 1; ; attempt++) {
+        try {
+          return Either.success(callable.call());
+        } catch (Throwable t) {
+          if (!policy.awaitRetry(t, attempt)) {
+            return Either.failure(t);
+          }
+        }
+      }
+    };
+  }
+
+
+  /** Wraps unsafeFunction to be guarded by the breaker: while it is open, calls are not attempted,
+   but fail with {@link CircuitBreaker#rejected()} */
+  public static <T,R> Function<T,Either<R>> circuitBreaker (CheckedFunction<T,R> unsafeFunction, CircuitBreaker breaker) {
+    return (value) -> {
+      if (!breaker.tryAcquire()) {
+        return Either.failure(breaker.rejected());
+      }
+      try {
+        R result = unsafeFunction.apply(value);
+        breaker.onSuccess();
+        return Either.success(result);
+      } catch (Throwable t) {
+        breaker.onFailure();
+        return Either.failure(t);
+      }
+    };
+  }
+
+  /** {@link #circuitBreaker(CheckedFunction, CircuitBreaker)} for {@link CheckedCallable} (and CheckedSupplier: supplier::get) */
+  public static <V> SafeCallable<Either<V>> circuitBreaker (CheckedCallable<V> callable, CircuitBreaker breaker) {
+    return (SafeCallable.Generated<Either<V>>)() -> {
+      if (!breaker.tryAcquire()) {
+        return Either.failure(breaker.rejected());
+      }
+      try {
+        V result = callable.call();
+        breaker.onSuccess();
+        return Either.success(result);
+      } catch (Throwable t) {
+        breaker.onFailure();
+        return Either.failure(t);
+      }
+    };
+  }
+
+
+  /** Wraps unsafeFunction to run at most maxConcurrent calls at the same time.
+   Excess calls are not queued, but fail immediately with a {@link RejectedExecutionException} */
+  public static <T,R> Function<T,Either<R>> bulkhead (CheckedFunction<T,R> unsafeFunction, int maxConcurrent) {
+    AtomicInteger inFlight = newBulkhead(maxConcurrent);
+    return (value) -> {
+      if (inFlight.incrementAndGet() > maxConcurrent) {
+        inFlight.decrementAndGet();
+        return Either.failure(new RejectedExecutionException("Bulkhead is full: "+maxConcurrent+" concurrent calls"));
+      }
+      try {
+        return Either.success(unsafeFunction.apply(value));
+      } catch (Throwable t) {
+        return Either.failure(t);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    };
+  }
+
+  /** {@link #bulkhead(CheckedFunction, int)} for {@link CheckedCallable} (and CheckedSupplier: supplier::get) */
+  public static <V> SafeCallable<Either<V>> bulkhead (CheckedCallable<V> callable, int maxConcurrent) {
+    AtomicInteger inFlight = newBulkhead(maxConcurrent);
+    return (SafeCallable.Generated<Either<V>>)() -> {
+      if (inFlight.incrementAndGet() > maxConcurrent) {
+        inFlight.decrementAndGet();
+        return Either.failure(new RejectedExecutionException("Bulkhead is full: "+maxConcurrent+" concurrent calls"));
+      }
+      try {
+        return Either.success(callable.call());
+      } catch (Throwable t) {
+        return Either.failure(t);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    };
+  }
+
+  private static AtomicInteger newBulkhead (int maxConcurrent) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("maxConcurrent must be positive: "+maxConcurrent);
+    }
+    return new AtomicInteger();
+  }
+
+
   // Predicates
 
   public static <T> Predicate<T> predicate (CheckedPredicate<T> unsafePredicate) {
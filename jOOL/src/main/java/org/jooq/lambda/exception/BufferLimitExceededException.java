@@ -0,0 +1,45 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.exception;
+
+/**
+ * An exception thrown when an operation would have to buffer more than the
+ * permitted number of elements.
+ *
+ * @author Lukas Eder
+ */
+public class BufferLimitExceededException extends RuntimeException {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -6164337296612392719L;
+
+    public BufferLimitExceededException() {
+    }
+
+    public BufferLimitExceededException(String message) {
+        super(message);
+    }
+
+    public BufferLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public BufferLimitExceededException(Throwable cause) {
+        super(cause);
+    }
+}
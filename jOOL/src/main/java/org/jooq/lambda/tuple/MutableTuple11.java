@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.tuple;
+
+import org.jooq.lambda.Seq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A mutable tuple of degree 11.
+ * <p>
+ * Unlike {@link Tuple11}, the values of this tuple can be overwritten, which
+ * allows for reusing a single instance for all elements of a stream, e.g. in
+ * {@link Seq#zipReusing(Seq, Seq, Seq, Seq, Seq, Seq, Seq, Seq, Seq, Seq, Seq)}. Operators producing mutable tuples
+ * overwrite the same instance for every element, so consumers must not
+ * retain a reference to it beyond the processing of the current element. Use
+ * {@link #toTuple()} to retain an immutable copy.
+ *
+ * @author Lukas Eder
+ */
+public final class MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> implements Tuple, Serializable, Cloneable {
+
+    private static final long serialVersionUID = 1L;
+
+    public T1 v1;
+    public T2 v2;
+    public T3 v3;
+    public T4 v4;
+    public T5 v5;
+    public T6 v6;
+    public T7 v7;
+    public T8 v8;
+    public T9 v9;
+    public T10 v10;
+    public T11 v11;
+
+    public T1 v1() {
+        return v1;
+    }
+
+    public T2 v2() {
+        return v2;
+    }
+
+    public T3 v3() {
+        return v3;
+    }
+
+    public T4 v4() {
+        return v4;
+    }
+
+    public T5 v5() {
+        return v5;
+    }
+
+    public T6 v6() {
+        return v6;
+    }
+
+    public T7 v7() {
+        return v7;
+    }
+
+    public T8 v8() {
+        return v8;
+    }
+
+    public T9 v9() {
+        return v9;
+    }
+
+    public T10 v10() {
+        return v10;
+    }
+
+    public T11 v11() {
+        return v11;
+    }
+
+    public MutableTuple11() {}
+
+    public MutableTuple11(Tuple11<? extends T1, ? extends T2, ? extends T3, ? extends T4, ? extends T5, ? extends T6, ? extends T7, ? extends T8, ? extends T9, ? extends T10, ? extends T11> tuple) {
+        this.v1 = tuple.v1;
+        this.v2 = tuple.v2;
+        this.v3 = tuple.v3;
+        this.v4 = tuple.v4;
+        this.v5 = tuple.v5;
+        this.v6 = tuple.v6;
+        this.v7 = tuple.v7;
+        this.v8 = tuple.v8;
+        this.v9 = tuple.v9;
+        this.v10 = tuple.v10;
+        this.v11 = tuple.v11;
+    }
+
+    public MutableTuple11(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8, T9 v9, T10 v10, T11 v11) {
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.v4 = v4;
+        this.v5 = v5;
+        this.v6 = v6;
+        this.v7 = v7;
+        this.v8 = v8;
+        this.v9 = v9;
+        this.v10 = v10;
+        this.v11 = v11;
+    }
+
+    /**
+     * Overwrite all values of this tuple.
+     */
+    public MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> set(T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8, T9 v9, T10 v10, T11 v11) {
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.v4 = v4;
+        this.v5 = v5;
+        this.v6 = v6;
+        this.v7 = v7;
+        this.v8 = v8;
+        this.v9 = v9;
+        this.v10 = v10;
+        this.v11 = v11;
+
+        return this;
+    }
+
+    /**
+     * Overwrite all values of this tuple with the values of another tuple.
+     */
+    public MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> set(Tuple11<? extends T1, ? extends T2, ? extends T3, ? extends T4, ? extends T5, ? extends T6, ? extends T7, ? extends T8, ? extends T9, ? extends T10, ? extends T11> tuple) {
+        this.v1 = tuple.v1;
+        this.v2 = tuple.v2;
+        this.v3 = tuple.v3;
+        this.v4 = tuple.v4;
+        this.v5 = tuple.v5;
+        this.v6 = tuple.v6;
+        this.v7 = tuple.v7;
+        this.v8 = tuple.v8;
+        this.v9 = tuple.v9;
+        this.v10 = tuple.v10;
+        this.v11 = tuple.v11;
+
+        return this;
+    }
+
+    /**
+     * An immutable copy of the current values of this tuple.
+     */
+    public Tuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> toTuple() {
+        return new Tuple11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+    }
+
+    @Override
+    @Deprecated
+    public Object[] array() {
+        return toArray();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] { v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11 };
+    }
+
+    @Override
+    @Deprecated
+    public List<?> list() {
+        return toList();
+    }
+
+    @Override
+    public List<?> toList() {
+        return Arrays.asList(toArray());
+    }
+
+    @Override
+    public Seq<?> toSeq() {
+        return Seq.seq(toList());
+    }
+
+    @Override
+    public Map<String, ?> toMap() {
+        return toMap(i -> "v" + (i + 1));
+    }
+
+    @Override
+    public <K> Map<K, ?> toMap(Function<? super Integer, ? extends K> keyMapper) {
+        Map<K, Object> result = new LinkedHashMap<>();
+        Object[] array = toArray();
+
+        for (int i = 0; i < array.length; i++)
+            result.put(keyMapper.apply(i), array[i]);
+
+        return result;
+    }
+
+    /**
+     * The degree of this tuple: 11.
+     */
+    @Override
+    public int degree() {
+        return 11;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<Object> iterator() {
+        return (Iterator<Object>) list().iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof MutableTuple11))
+            return false;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> that = (MutableTuple11) o;
+
+        if (!Objects.equals(v1, that.v1)) return false;
+        if (!Objects.equals(v2, that.v2)) return false;
+        if (!Objects.equals(v3, that.v3)) return false;
+        if (!Objects.equals(v4, that.v4)) return false;
+        if (!Objects.equals(v5, that.v5)) return false;
+        if (!Objects.equals(v6, that.v6)) return false;
+        if (!Objects.equals(v7, that.v7)) return false;
+        if (!Objects.equals(v8, that.v8)) return false;
+        if (!Objects.equals(v9, that.v9)) return false;
+        if (!Objects.equals(v10, that.v10)) return false;
+        if (!Objects.equals(v11, that.v11)) return false;
+
+        return true;
+    }
+
+    /**
+     * The hash code of this tuple, which is the same as that of a
+     * {@link Tuple11} with the same values.
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        result = prime * result + ((v1 == null) ? 0 : v1.hashCode());
+        result = prime * result + ((v2 == null) ? 0 : v2.hashCode());
+        result = prime * result + ((v3 == null) ? 0 : v3.hashCode());
+        result = prime * result + ((v4 == null) ? 0 : v4.hashCode());
+        result = prime * result + ((v5 == null) ? 0 : v5.hashCode());
+        result = prime * result + ((v6 == null) ? 0 : v6.hashCode());
+        result = prime * result + ((v7 == null) ? 0 : v7.hashCode());
+        result = prime * result + ((v8 == null) ? 0 : v8.hashCode());
+        result = prime * result + ((v9 == null) ? 0 : v9.hashCode());
+        result = prime * result + ((v10 == null) ? 0 : v10.hashCode());
+        result = prime * result + ((v11 == null) ? 0 : v11.hashCode());
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "("
+             +        v1
+             + ", " + v2
+             + ", " + v3
+             + ", " + v4
+             + ", " + v5
+             + ", " + v6
+             + ", " + v7
+             + ", " + v8
+             + ", " + v9
+             + ", " + v10
+             + ", " + v11
+             + ")";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> clone() {
+        try {
+            return (MutableTuple11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11>) super.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda.tuple;
+
+import org.jooq.lambda.Seq;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A tuple of degree 2 holding an object and a <code>long</code> value.
+ * <p>
+ * This is a specialisation of {@link Tuple2} that avoids boxing the
+ * primitive values, e.g. for indexes or counts. Use {@link #toTuple()} and
+ * {@link #ObjLongTuple2(Tuple2)} to convert to and from the generic tuple type.
+ *
+ * @author Lukas Eder
+ */
+public final class ObjLongTuple2<T> implements Tuple, Comparable<ObjLongTuple2<T>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public final T v1;
+    public final long v2;
+
+    public T v1() {
+        return v1;
+    }
+
+    public long v2() {
+        return v2;
+    }
+
+    public ObjLongTuple2(Tuple2<? extends T, Long> tuple) {
+        this.v1 = tuple.v1;
+        this.v2 = tuple.v2;
+    }
+
+    public ObjLongTuple2(T v1, long v2) {
+        this.v1 = v1;
+        this.v2 = v2;
+    }
+
+    /**
+     * The equivalent generic tuple.
+     */
+    public Tuple2<T, Long> toTuple() {
+        return new Tuple2<>(v1, v2);
+    }
+
+    @Override
+    @Deprecated
+    public Object[] array() {
+        return toArray();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return new Object[] { v1, v2 };
+    }
+
+    @Override
+    @Deprecated
+    public List<?> list() {
+        return toList();
+    }
+
+    @Override
+    public List<?> toList() {
+        return Arrays.asList(toArray());
+    }
+
+    @Override
+    public Seq<?> toSeq() {
+        return Seq.seq(toList());
+    }
+
+    @Override
+    public Map<String, ?> toMap() {
+        return toMap(i -> "v" + (i + 1));
+    }
+
+    @Override
+    public <K> Map<K, ?> toMap(Function<? super Integer, ? extends K> keyMapper) {
+        Map<K, Object> result = new LinkedHashMap<>();
+
+        result.put(keyMapper.apply(0), v1);
+        result.put(keyMapper.apply(1), v2);
+
+        return result;
+    }
+
+    /**
+     * The degree of this tuple: 2.
+     */
+    @Override
+    public int degree() {
+        return 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<Object> iterator() {
+        return (Iterator<Object>) list().iterator();
+    }
+
+    @Override
+    public int compareTo(ObjLongTuple2<T> other) {
+        int result = 0;
+
+        result = Tuples.compare(v1, other.v1); if (result != 0) return result;
+        result = Long.compare(v2, other.v2); if (result != 0) return result;
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ObjLongTuple2))
+            return false;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final ObjLongTuple2<T> that = (ObjLongTuple2) o;
+
+        if (!Objects.equals(v1, that.v1)) return false;
+        if (v2 != that.v2) return false;
+
+        return true;
+    }
+
+    /**
+     * The hash code of this tuple, which is the same as that of the
+     * equivalent {@link Tuple2}.
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+
+        result = prime * result + ((v1 == null) ? 0 : v1.hashCode());
+        result = prime * result + Long.hashCode(v2);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "("
+             +        v1
+             + ", " + v2
+             + ")";
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import java.util.Optional;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for expensive operations.
+ * <p>
+ * This is the Java 11 implementation, which replaces the Java 9 no-op
+ * implementation in the multi-release jar. Events are allocated only if JFR is
+ * recording them: the enablement of each event type is checked first.
+ *
+ * @author Lukas Eder
+ */
+final class JfrEvents {
+
+    static final int WINDOW      = 0;
+    static final int BUFFER      = 1;
+    static final int JOIN        = 2;
+    static final int FULL_BUFFER = 3;
+    static final int AGG         = 4;
+    static final int BLOCKING    = 5;
+
+    /**
+     * Whether <code>jdk.jfr</code> is available.
+     * <p>
+     * The <code>org.jooq.jool</code> module descriptor is compiled for Java 9,
+     * so it can't require <code>jdk.jfr</code>. The module has to add the read
+     * edge itself, and events are disabled if <code>jdk.jfr</code> hasn't been
+     * resolved.
+     */
+    private static final boolean AVAILABLE;
+
+    static {
+        boolean available;
+
+        try {
+            Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+
+            if (jfr.isPresent()) {
+                JfrEvents.class.getModule().addReads(jfr.get());
+                available = true;
+            }
+            else
+                available = false;
+        }
+        catch (RuntimeException | LinkageError e) {
+            available = false;
+        }
+
+        AVAILABLE = available;
+    }
+
+    static boolean isEnabled(int type) {
+        return AVAILABLE && Recorder.isEnabled(type);
+    }
+
+    static Object begin(int type) {
+        return AVAILABLE ? Recorder.begin(type) : null;
+    }
+
+    static void end(Object event) {
+        if (event != null)
+            Recorder.end(event);
+    }
+
+    static void commit(Object event, String operation, long size) {
+        if (event != null)
+            Recorder.commit(event, operation, size);
+    }
+
+    /**
+     * The event logic, which must not be linked before the read edge to
+     * <code>jdk.jfr</code> has been added.
+     */
+    static final class Recorder {
+
+        /**
+         * The registered event types, indexed by type, whose enablement is
+         * checked before allocating an event, or <code>null</code> if they
+         * can't be registered.
+         */
+        private static final EventType[] TYPES = types();
+
+        private static EventType[] types() {
+            try {
+                return new EventType[] {
+                    EventType.getEventType(WindowPartitionEvent.class),
+                    EventType.getEventType(SeqBufferEvent.class),
+                    EventType.getEventType(JoinBuildEvent.class),
+                    EventType.getEventType(FullBufferEvent.class),
+                    EventType.getEventType(AggBufferEvent.class),
+                    EventType.getEventType(ManagedBlockEvent.class)
+                };
+            }
+            catch (RuntimeException | LinkageError e) {
+                return null;
+            }
+        }
+
+        static boolean isEnabled(int type) {
+            if (type < WINDOW || type > BLOCKING)
+                throw new IllegalArgumentException("Unknown event type: " + type);
+
+            return TYPES != null && TYPES[type].isEnabled();
+        }
+
+        static Object begin(int type) {
+            if (!isEnabled(type))
+                return null;
+
+            JoolEvent event;
+
+            switch (type) {
+                case WINDOW:      event = new WindowPartitionEvent(); break;
+                case BUFFER:      event = new SeqBufferEvent(); break;
+                case JOIN:        event = new JoinBuildEvent(); break;
+                case FULL_BUFFER: event = new FullBufferEvent(); break;
+                case AGG:         event = new AggBufferEvent(); break;
+                case BLOCKING:    event = new ManagedBlockEvent(); break;
+                default:          throw new IllegalArgumentException("Unknown event type: " + type);
+            }
+
+            event.begin();
+            return event;
+        }
+
+        static void end(Object event) {
+            ((JoolEvent) event).end();
+        }
+
+        static void commit(Object event, String operation, long size) {
+            JoolEvent e = (JoolEvent) event;
+            e.end();
+
+            if (e.shouldCommit()) {
+                e.operation = operation;
+                e.size = size;
+                e.commit();
+            }
+        }
+    }
+
+    @Category({ "jOOλ" })
+    @StackTrace(false)
+    static abstract class JoolEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Size")
+        @Description("The number of elements processed by the operation")
+        long   size;
+    }
+
+    @Name("org.jooq.lambda.WindowPartition")
+    @Label("Window Partition Build")
+    @Description("Seq.window() buffering its input and building its partitions")
+    static final class WindowPartitionEvent extends JoolEvent {}
+
+    @Name("org.jooq.lambda.SeqBuffer")
+    @Label("Seq Buffer")
+    @Description("A buffer of a stream that is consumed more than once, from its first to its last buffered element")
+    static final class SeqBufferEvent extends JoolEvent {}
+
+    @Name("org.jooq.lambda.JoinBuild")
+    @Label("Join Build")
+    @Description("The build side of a join being buffered, from its first to its last element")
+    static final class JoinBuildEvent extends JoolEvent {}
+
+    @Name("org.jooq.lambda.FullBuffer")
+    @Label("Full Buffer")
+    @Description("An operation that needs to buffer the whole stream before emitting its first element")
+    static final class FullBufferEvent extends JoolEvent {}
+
+    @Name("org.jooq.lambda.AggBuffer")
+    @Label("Aggregate Buffer")
+    @Description("An aggregate function processing all of its buffered values")
+    static final class AggBufferEvent extends JoolEvent {}
+
+    @Name("org.jooq.lambda.ManagedBlock")
+    @Label("Managed Block")
+    @Description("A blocking call wrapped by Blocking in ForkJoinPool.managedBlock()")
+    @StackTrace(true)
+    static final class ManagedBlockEvent extends JoolEvent {}
+
+    private JfrEvents() {}
+}
@@ -1,18 +1,332 @@
 package org.jooq.lambda;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.After;
 import org.junit.Test;
 
 public class AsyncTest {
-    
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     @Test
     public void testNoCustomExecutor() {
         CompletionStage<Void> completionStage = Async.runAsync(() -> {});
         assertNull(completionStage.toCompletableFuture().join());
-        
+
         completionStage = Async.supplyAsync(() -> null);
         assertNull(completionStage.toCompletableFuture().join());
     }
+
+    @Test
+    public void testNullExecutor() {
+        Utils.assertThrows(NullPointerException.class, () -> Async.runAsync(() -> {}, null));
+        Utils.assertThrows(NullPointerException.class, () -> Async.supplyAsync(() -> null, null));
+    }
+
+    @Test
+    public void testAllOf() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Seq<Supplier<Integer>> tasks = Seq.range(0, 20).map(i -> () -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(2);
+            inFlight.decrementAndGet();
+            return i * i;
+        });
+
+        List<Integer> result = Async.allOf(tasks, executor, 3).toCompletableFuture().join();
+        assertEquals(Seq.range(0, 20).map(i -> i * i).toList(), result);
+        assertTrue(maxInFlight.get() <= 3);
+
+        assertEquals(Arrays.asList(), Async.allOf(Seq.<Supplier<Integer>>empty(), executor, 3).toCompletableFuture().join());
+        Utils.assertThrows(IllegalArgumentException.class, () -> Async.allOf(Seq.<Supplier<Integer>>empty(), executor, 0));
+    }
+
+    @Test
+    public void testAllOfFailureCancelsSiblings() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch blocking = new CountDownLatch(1);
+
+        Seq<Supplier<Integer>> tasks = Seq.<Supplier<Integer>>of(
+            () -> {
+                blocking.countDown();
+                try {
+                    Thread.sleep(10_000);
+                }
+                catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 0;
+            },
+            () -> {
+                await(blocking);
+                throw new IllegalStateException("boom");
+            }
+        ).append(Seq.range(0, 100).map(i -> () -> started.incrementAndGet()));
+
+        CompletableFuture<List<Integer>> result = Async.allOf(tasks, executor, 2).toCompletableFuture();
+        try {
+            result.join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertEquals("boom", expected.getCause().getMessage());
+        }
+
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertEquals(0, started.get());
+    }
+
+    @Test
+    public void testAllOfTimeoutAndCancellation() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(2);
+        Supplier<Integer> slow = () -> {
+            try {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 0;
+        };
+
+        CompletableFuture<List<Integer>> timedOut = Async.allOf(Seq.of(slow), executor, 1, Duration.ofMillis(20)).toCompletableFuture();
+        try {
+            timedOut.join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertTrue(expected.getCause() instanceof TimeoutException);
+        }
+
+        CompletableFuture<List<Integer>> cancelled = Async.allOf(Seq.of(slow), executor, 1).toCompletableFuture();
+        sleep(20);
+        cancelled.cancel(true);
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAnyOfAndFirstSuccessful() {
+        Supplier<String> fails = () -> {
+            throw new IllegalStateException("fails");
+        };
+        Supplier<String> slow = () -> {
+            sleep(200);
+            return "slow";
+        };
+        Supplier<String> fast = () -> "fast";
+
+        assertEquals("fast", Async.anyOf(Seq.of(slow, fast), executor, 2).toCompletableFuture().join());
+        assertEquals("slow", Async.firstSuccessful(Seq.of(fails, slow, fails), executor, 3).toCompletableFuture().join());
+
+        try {
+            Async.anyOf(Seq.of(fails, slow), executor, 2).toCompletableFuture().join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertEquals("fails", expected.getCause().getMessage());
+        }
+
+        try {
+            Async.firstSuccessful(Seq.of(fails, fails, fails), executor, 1).toCompletableFuture().join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertEquals("fails", expected.getCause().getMessage());
+        }
+
+        try {
+            Async.firstSuccessful(Seq.<Supplier<String>>empty(), executor, 1).toCompletableFuture().join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertTrue(expected.getCause() instanceof NoSuchElementException);
+        }
+    }
+
+    @Test
+    public void testAnyOfInterruptsLosingSiblings() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(2);
+        CountDownLatch blocking = new CountDownLatch(2);
+        Supplier<String> slow = () -> {
+            blocking.countDown();
+            try {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "slow";
+        };
+        Supplier<String> fast = () -> {
+            await(blocking);
+            return "fast";
+        };
+
+        assertEquals("fast", Async.anyOf(Seq.of(slow, slow, fast), executor, 3).toCompletableFuture().join());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch interrupted2 = new CountDownLatch(1);
+        CountDownLatch blocking2 = new CountDownLatch(1);
+        Supplier<String> slow2 = () -> {
+            blocking2.countDown();
+            try {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e) {
+                interrupted2.countDown();
+            }
+            return "slow";
+        };
+        Supplier<String> fast2 = () -> {
+            await(blocking2);
+            return "fast";
+        };
+
+        assertEquals("fast", Async.firstSuccessful(Seq.of(slow2, fast2), executor, 2).toCompletableFuture().join());
+        assertTrue(interrupted2.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCallerRunsExecutor() {
+        Executor callerRuns = Runnable::run;
+
+        assertEquals(200_000, Async.allOf(Seq.range(0, 200_000).map(i -> (Supplier<Integer>) () -> i), callerRuns, 1).toCompletableFuture().join().size());
+        assertEquals("ok", Async.firstSuccessful(Seq.range(0, 200_000).map(i -> (Supplier<String>) () -> {
+            if (i < 199_999)
+                throw new IllegalStateException("fails");
+
+            return "ok";
+        }), callerRuns, 1).toCompletableFuture().join());
+        assertEquals(Integer.valueOf(0), Async.anyOf(Seq.range(0, 200_000).map(i -> (Supplier<Integer>) () -> i), callerRuns, 4).toCompletableFuture().join());
+    }
+
+    @Test
+    public void testCollect() {
+        List<CompletableFuture<Integer>> futures = Seq.range(0, 5).map(i -> new CompletableFuture<Integer>()).toList();
+        CompletableFuture<List<Integer>> result = Async.collect(Seq.seq(futures), Collectors.<Integer>toList()).toCompletableFuture();
+
+        // folded in completion order
+        for (int i = 4; i >= 0; i--) {
+            assertTrue(!result.isDone());
+            futures.get(i).complete(i);
+        }
+        assertEquals(Arrays.asList(4, 3, 2, 1, 0), result.join());
+
+        assertEquals(Integer.valueOf(0), Async.collect(Seq.<CompletionStage<Integer>>empty(), Collectors.summingInt((Integer i) -> i)).toCompletableFuture().join());
+
+        // failure cancels the others
+        List<CompletableFuture<Integer>> failing = Seq.range(0, 3).map(i -> new CompletableFuture<Integer>()).toList();
+        CompletableFuture<Integer> sum = Async.collect(Seq.seq(failing), Collectors.summingInt((Integer i) -> i)).toCompletableFuture();
+        failing.get(1).completeExceptionally(new IllegalStateException("boom"));
+        assertTrue(sum.isCompletedExceptionally());
+        assertTrue(failing.get(0).isCancelled());
+        assertTrue(failing.get(2).isCancelled());
+    }
+
+    @Test
+    public void testForEachConcurrently() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger sum = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        Async.ForEachStats stats = Seq.range(0, 50).onClose(closed::incrementAndGet).forEachConcurrently(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(2);
+            sum.addAndGet(i);
+            inFlight.decrementAndGet();
+        }, 4, executor);
+
+        assertEquals(50L, stats.processed());
+        assertTrue(!stats.elapsed().isNegative());
+        assertEquals(Seq.range(0, 50).sum().get(), Integer.valueOf(sum.get()));
+        assertTrue(maxInFlight.get() <= 4);
+        assertEquals(1, closed.get());
+
+        assertEquals(0L, Seq.empty().forEachConcurrently(i -> {}, 4).processed());
+        assertEquals(200_000L, Seq.range(0, 200_000).forEachConcurrently(i -> {}, 1, Runnable::run).processed());
+        assertEquals(200_000L, Async.forEach(Seq.range(0, 200_000), i -> {}, Runnable::run, 8).toCompletableFuture().join().processed());
+        assertEquals(20L, Seq.range(0, 20).forEachConcurrently(i -> sleep(5), 20).processed());
+    }
+
+    @Test
+    public void testForEachConcurrentlyFailure() {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        try {
+            Seq.range(0, 1000).onClose(closed::incrementAndGet).forEachConcurrently(i -> {
+                started.incrementAndGet();
+
+                if (i == 3)
+                    throw new IllegalStateException("boom");
+
+                sleep(1);
+            }, 2, executor);
+            fail();
+        }
+        catch (IllegalStateException expected) {
+            assertEquals("boom", expected.getMessage());
+        }
+
+        assertTrue(started.get() < 1000);
+        assertEquals(1, closed.get());
+        Utils.assertThrows(IllegalArgumentException.class, () -> Seq.of(1).forEachConcurrently(i -> {}, 0));
+    }
+
+    @Test
+    public void testVirtualThreadExecutor() {
+        List<Integer> result = Async.allOf(Seq.range(0, 50).map(i -> (Supplier<Integer>) () -> {
+            sleep(5);
+            return i;
+        }), Async.virtualThreadExecutor(), 50).toCompletableFuture().join();
+
+        assertEquals(Seq.range(0, 50).toList(), result);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
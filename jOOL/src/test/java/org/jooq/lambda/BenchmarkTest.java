@@ -0,0 +1,61 @@
+package org.jooq.lambda;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.jooq.lambda.Utils.assertThrows;
+import static org.junit.Assert.*;
+
+public class BenchmarkTest {
+
+  @Test public void testHistogram () {
+    Benchmark.Histogram h = new Benchmark.Histogram();
+    assertEquals(0, h.percentile(50));
+
+    for (long v = 1; v <= 1000; v++) {
+      h.record(v);
+    }
+    assertEquals(1000, h.count());
+    assertEquals(1, h.min());
+    assertEquals(1000, h.max());
+    assertEquals(500, h.percentile(50), 500 / 8);
+    assertEquals(990, h.percentile(99), 990 / 8);
+    assertEquals(1000, h.percentile(100), 1000 / 8);
+
+    h.record(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, h.percentile(100));
+
+    for (long v : new long[]{0, 7, 8, 9, 15, 16, 17, 1000, 1L << 40, Long.MAX_VALUE}) {
+      long lower = Benchmark.Histogram.lowerBound(Benchmark.Histogram.bucket(v));
+      assertTrue(v+" ≥ "+lower, lower <= v);
+      assertTrue(v+" ~ "+lower, v - lower <= v / 8);
+    }
+  }
+
+  @Test public void testRun () {
+    Benchmark.Result r = Benchmark.of(Duration.ofMillis(50), Duration.ofMillis(50))
+        .run(bh -> bh.consume(Seq.range(0, 10).sum()));
+
+    assertNull(r.failure);
+    assertTrue(r.operations > 0);
+    assertTrue(r.nanos > 0);
+    assertEquals(r.operations, r.histogram.count());
+    assertTrue(r.percentile(50) <= r.percentile(99));
+    assertTrue(r.warmupRounds > 0);
+    assertTrue(r.toString().startsWith("BENCHMARK: "));
+  }
+
+  @Test public void testFailure () {
+    IllegalStateException e = new IllegalStateException("stop");
+    Benchmark.Result r = Benchmark.of(Duration.ofMillis(10), Duration.ofMillis(10)).run(() -> {
+      throw e;
+    });
+    assertSame(e, r.failure);
+    assertEquals(0, r.operations);
+    assertTrue(r.toString().contains("FAILED"));
+
+    assertThrows(IllegalArgumentException.class, () -> Benchmark.of(Duration.ZERO, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> Benchmark.of(Duration.ZERO, Duration.ofMillis(1)).withTolerance(0));
+  }
+}
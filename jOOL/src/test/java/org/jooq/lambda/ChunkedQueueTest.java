@@ -0,0 +1,90 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Lukas Eder
+ */
+public class ChunkedQueueTest {
+
+    @Test
+    public void testOfferPoll() {
+        ChunkedQueue<Integer> queue = new ChunkedQueue<>();
+        assertTrue(queue.isEmpty());
+
+        queue.offer(1);
+        queue.offer(null);
+        queue.offer(3);
+        assertEquals(3, queue.size());
+        assertEquals(1, (int) queue.poll());
+        assertNull(queue.poll());
+        assertEquals(3, (int) queue.poll());
+        assertTrue(queue.isEmpty());
+
+        queue.offer(4);
+        assertFalse(queue.isEmpty());
+        assertEquals(4, (int) queue.poll());
+    }
+
+    @Test
+    public void testClear() {
+        ChunkedQueue<Integer> queue = new ChunkedQueue<>();
+        for (int i = 0; i < 100; i++)
+            queue.offer(i);
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+
+        queue.offer(1);
+        assertEquals(1, queue.size());
+        assertEquals(1, (int) queue.poll());
+    }
+
+    @Test
+    public void testManyChunks() {
+        ChunkedQueue<Integer> queue = new ChunkedQueue<>();
+        Deque<Integer> expected = new ArrayDeque<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 10000; i++) {
+            if (random.nextInt(3) == 0 && !expected.isEmpty()) {
+                assertEquals(expected.poll(), queue.poll());
+            }
+            else {
+                queue.offer(i);
+                expected.offer(i);
+            }
+
+            assertEquals(expected.size(), queue.size());
+        }
+
+        while (!expected.isEmpty())
+            assertEquals(expected.poll(), queue.poll());
+
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -21,12 +21,19 @@ import static org.jooq.lambda.Agg.*;
 import static org.jooq.lambda.Utils.assertThrows;
 import static org.jooq.lambda.tuple.Tuple.tuple;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.Comparator;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple;
@@ -1228,6 +1235,115 @@ public class CollectorTests {
         assertEquals(false, Seq.of(1, 2, 3, 4, 5).noneMatch(i -> i % 3 == 0));
     }
 
+    @Test
+    public void testGroupingByLong() {
+        assertEquals(Seq.range(-5000, 5000).groupBy(i -> (long) (i % 777), Collectors.toList()),
+            Seq.range(-5000, 5000).groupByLong(i -> i % 777, Collectors.toList()));
+        assertEquals(Seq.range(-5000, 5000).groupBy(i -> i / 3, count()),
+            Seq.range(-5000, 5000).groupByInt(i -> i / 3, count()));
+        assertEquals(Seq.range(-5000, 5000).groupBy(i -> (long) i * Integer.MAX_VALUE, Collectors.summingInt(i -> i)),
+            Seq.range(-5000, 5000).groupByLong(i -> (long) i * Integer.MAX_VALUE, Collectors.summingInt(i -> i)));
+        assertEquals(Collections.emptyMap(), Seq.<Integer>of().groupByInt(i -> i, count()));
+
+        // Combiner
+        assertEquals(Seq.range(0, 100_000).groupBy(i -> (long) (i % 1000), Collectors.toList()),
+            Seq.range(0, 100_000).toList().parallelStream().collect(groupingByLong(i -> i % 1000, Collectors.toList())));
+
+        // Downstream results may be null, like in Collectors.groupingBy()
+        Map<Integer, Integer> nulls = Seq.of(1, 2, 3).groupByInt(i -> i % 2, Collectors.reducing(null, (a, b) -> null));
+        assertEquals(2, nulls.size());
+        assertTrue(nulls.containsKey(0));
+        assertNull(nulls.get(1));
+    }
+
+    @Test
+    public void testPrimitiveTables() {
+        List<Long> keys = Seq.range(0, 50_000).map(i -> i % 3 == 0 ? -i * 7919L : i % 3 == 1 ? (long) i << 33 : i % 1000)
+            .append(0L, Long.MIN_VALUE, Long.MAX_VALUE, 0L).toList();
+
+        for (TableStorage storage : TableStorage.values()) {
+            assertEquals((long) new java.util.HashSet<>(keys).size(),
+                (long) Seq.seq(keys).collect(countDistinctByLong(k -> k, storage)));
+            assertEquals((long) new java.util.HashSet<>(keys).size(),
+                (long) keys.parallelStream().collect(countDistinctByLong(k -> k, storage)));
+            assertEquals(0L, (long) Seq.<Long>of().collect(countDistinctByLong(k -> k, storage)));
+
+            assertEquals(Seq.seq(keys).groupBy(k -> k % 100, Collectors.counting()),
+                Seq.seq(keys).collect(groupingByLong(k -> k % 100, k -> 1L, Long::sum, storage)));
+            assertEquals(Seq.seq(keys).groupBy(k -> k % 100, Collectors.counting()),
+                keys.parallelStream().collect(groupingByLong(k -> k % 100, k -> 1L, Long::sum, storage)));
+            assertEquals(Seq.seq(keys).groupBy(k -> k, Collectors.reducing(Long.MIN_VALUE, k -> k / 2, Math::max)),
+                Seq.seq(keys).collect(groupingByLong(k -> k, k -> k / 2, Math::max, storage)));
+        }
+    }
+
+    @Test
+    public void testPrimitiveDistinctAndMode() {
+        List<Long> keys = Seq.range(0, 50_000).map(i -> i % 2 == 0 ? (long) i << 40 : i % 777 - 300L).append(0L, 0L).toList();
+
+        assertEquals(Seq.seq(keys).countDistinct(), Seq.seq(keys).countDistinctByLong(k -> k));
+        assertEquals(Seq.seq(keys).countDistinct(), (long) keys.parallelStream().collect(countDistinctByLong(k -> k)));
+        assertEquals(Seq.seq(keys).countDistinctBy(k -> k.intValue()), (long) Seq.seq(keys).collect(countDistinctByInt(k -> k.intValue())));
+        assertEquals(0L, Seq.<Long>of().countDistinctByLong(k -> k));
+
+        List<String> words = asList("a", "bb", "cc", "d", "eee", "ff", "g");
+        assertEquals(Seq.seq(words).modeBy(String::length), Seq.seq(words).collect(modeByInt(String::length)));
+        assertEquals(Optional.of("a"), Seq.of("a", "bb", "c", "dd").modeByLong(String::length));
+        assertEquals(Optional.of("bb"), Seq.of("bb", "a", "c", "dd").modeByLong(String::length));
+        assertEquals(Optional.empty(), Seq.<String>of().modeByLong(String::length));
+
+        // Combiner
+        List<Integer> values = Seq.range(0, 100_000).map(i -> i % 1000 == 0 ? 7 : i % 97).toList();
+        assertEquals(Seq.seq(values).modeBy(i -> i), values.parallelStream().collect(modeByInt(i -> i)));
+        assertEquals(Seq.seq(values).modeBy(i -> i % 5), values.parallelStream().collect(modeByLong(i -> i % 5)));
+
+        // Ties are broken by first encounter, also after several combines
+        assertEquals(Optional.of(3), combined(modeByInt(i -> i), asList(1, 2), asList(2, 3, 3, 3), asList(4, 4, 4)));
+    }
+
+    /**
+     * Collect each part into its own container, and combine them from left to right.
+     */
+    @SafeVarargs
+    private static <T, A, R> R combined(Collector<T, A, R> collector, List<T>... parts) {
+        A result = null;
+
+        for (List<T> part : parts) {
+            A container = collector.supplier().get();
+            part.forEach(t -> collector.accumulator().accept(container, t));
+            result = result == null ? container : collector.combiner().apply(result, container);
+        }
+
+        return collector.finisher().apply(result);
+    }
+
+    @Test
+    public void testMomentsParallel() {
+        List<Double> list = Seq.range(0, 100_000).map(i -> Math.sin(i) * 1000 + 1e6).toList();
+        double sequential = list.stream().collect(varianceDouble()).get();
+        double parallel = list.parallelStream().collect(varianceDouble()).get();
+        double mean = list.stream().mapToDouble(d -> d).average().getAsDouble();
+        double twoPass = list.stream().mapToDouble(d -> (d - mean) * (d - mean)).sum() / list.size();
+
+        assertEquals(twoPass, sequential, twoPass * 1e-9);
+        assertEquals(twoPass, parallel, twoPass * 1e-9);
+        assertEquals(1.0, list.parallelStream().collect(correlationDouble(d -> d, d -> 2 * d)).get(), 1e-9);
+    }
+
+    @Test
+    public void testSuccessesAndFailures() {
+        IllegalStateException e = new IllegalStateException();
+        Tuple2<List<Integer>, List<Throwable>> result =
+            Stream.of(Either.success(1), Either.<Integer>failure(e), Either.success(3))
+                  .collect(successesAndFailures());
+        assertEquals(tuple(asList(1, 3), asList(e)), result);
+
+        assertEquals(tuple(4, 3L),
+            Seq.of("1", "a", "3", "b", "c")
+               .mapTry(Integer::parseInt)
+               .collect(successesAndFailures(Collectors.summingInt(i -> i), Agg.count())));
+    }
+
     @Test
     public void testCommonPrefix() {
         assertEquals("", Seq.<String>of().collect(Agg.commonPrefix()));
@@ -1239,6 +1355,10 @@ public class CollectorTests {
         assertEquals("AB", Seq.of("AB", "ABC", "ABCD", "ABD").collect(Agg.commonPrefix()));
         assertEquals("AB", Seq.of("ABC", "ABCD", "ABD").collect(Agg.commonPrefix()));
         assertEquals("AABB", Seq.of("AABBCC", "AABBDD", "AABBE").collect(Agg.commonPrefix()));
+        assertEquals("", Seq.of("A", null, "A").collect(Agg.commonPrefix()));
+        assertEquals("AB", Seq.<CharSequence>of(new StringBuilder("ABC"), "ABD").collect(Agg.commonPrefix()));
+        assertEquals("AB", Seq.range(0, 10_000).map(i -> "AB" + i).toList().parallelStream().collect(Agg.commonPrefix()));
+        assertEquals("AB1", Seq.range(10_000, 20_000).map(i -> "AB" + i).toList().parallelStream().collect(Agg.commonPrefix()));
     }
 
     @Test
@@ -1256,6 +1376,10 @@ public class CollectorTests {
         assertEquals("BA", Seq.of("BA", "CBA", "DCBA", "DBA").collect(Agg.commonSuffix()));
         assertEquals("BA", Seq.of("CBA", "DCBA", "DBA").collect(Agg.commonSuffix()));
         assertEquals("BBAA", Seq.of("CCBBAA", "DDBBAA", "EBBAA").collect(Agg.commonSuffix()));
+        assertEquals("", Seq.of("A", null, "A").collect(Agg.commonSuffix()));
+        assertEquals("", Seq.of((String) null).collect(Agg.commonSuffix()));
+        assertEquals("BA", Seq.<CharSequence>of(new StringBuilder("CBA"), "DBA").collect(Agg.commonSuffix()));
+        assertEquals("BA", Seq.range(0, 10_000).map(i -> i + "BA").toList().parallelStream().collect(Agg.commonSuffix()));
     }
 
     @Test
@@ -1335,6 +1459,14 @@ public class CollectorTests {
         assertEquals(Optional.of(1.0), Seq.of(new Item(1), new Item(1), new Item(3), new Item(3)).collect(Agg.varianceDouble(e -> (double) e.val)));
         assertEquals(Optional.of(1.0), Seq.of(new Item(1), new Item(1), new Item(3), new Item(3)).collect(Agg.stddevDouble(e -> (double) e.val)));
         assertEquals(Optional.of(1.250), Seq.of(new Item(1), new Item(2), new Item(3), new Item(4)).collect(Agg.varianceDouble(e -> (double) e.val)));
+
+        // The function is applied once per element
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals(Optional.of(1.250), Seq.of(new Item(1), new Item(2), new Item(3), new Item(4)).collect(Agg.varianceDouble(e -> {
+            calls.incrementAndGet();
+            return (double) e.val;
+        })));
+        assertEquals(4, calls.get());
     }
 
     @Test
@@ -8,10 +8,13 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.LongSummaryStatistics;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.jooq.lambda.Loops.loop;
 import static org.jooq.lambda.Loops.loopMeasured;
@@ -325,4 +328,43 @@ public class LoopsTest {
     assertSame(next, xit.next());
     System.out.println("\t"+xit);
   }
-}
\ No newline at end of file
+
+  @Test public void testLinearIndex () {
+    Loops.Incrementer x = new Loops.Incrementer(new int[]{3,4,5});
+    assertEquals(60, x.size());
+    for (long i=0; i<60; i++) {
+      assertEquals(i, x.linearIndex());
+      assertEquals(x.toString(), new Loops.Incrementer(new int[]{3,4,5}).linearIndex(i).toString());
+      x.incrementIndexVector();
+    }
+    assertEquals(0, x.linearIndex());
+  }
+
+  @Test public void testIndexSpliterator () {
+    Loops.Incrementer x = new Loops.Incrementer(new int[]{3,4,5});
+    List<String> expected = new ArrayList<>();
+    new Loops.Incrementer(new int[]{3,4,5}).forLoop((inc)->{ expected.add(Arrays.toString(inc.toArray())); return false; });
+    assertEquals(60, expected.size());
+
+    assertEquals(expected, x.indexVectors().map(Arrays::toString).toList());
+    assertEquals(expected, x.stream(true).map(inc->Arrays.toString(inc.toArray())).collect(Collectors.toList()));
+    assertEquals(60, x.indexSpliterator().estimateSize());
+    assertEquals("Incrementer[0, 0, 0] @ 0", x.toString());
+
+    x.linearIndex(55);
+    assertEquals(expected.subList(55, 60), x.indexVectors().map(Arrays::toString).toList());
+  }
+
+  @Test public void testParallelForLoop () {
+    int[] max = {10, 20, 30};
+    AtomicLong counter = new AtomicLong();
+    assertFalse(Loops.parallelForLoop(max, (inc)->{ counter.incrementAndGet(); return false; }, ForkJoinPool.commonPool()));
+    assertEquals(6000, counter.get());
+
+    assertTrue(Loops.parallelForLoop(max, (inc)->inc.indexAt(2) == 29, ForkJoinPool.commonPool()));
+
+    Optional<int[]> first = Loops.parallelFindFirst(max, (inc)->inc.indexAt(0) == 7 && inc.indexAt(1) > 3, ForkJoinPool.commonPool());
+    assertEquals("[7, 4, 0]", Arrays.toString(first.get()));
+    assertFalse(Loops.parallelFindFirst(max, (inc)->inc.indexAt(0) > 9, ForkJoinPool.commonPool()).isPresent());
+  }
+}
@@ -1,6 +1,7 @@
 package org.jooq.lambda;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
@@ -340,6 +341,50 @@ public class SameExecutorCompletionStageTest {
         assertHits(executorB, 1);
     }
     
+    @Test
+    public void testExplicitExecutorBecomesDefault() throws InterruptedException {
+        CompletionStage<Void> firstCompletionStage = Async.supplyAsync(latchSupplier(latch1), executorA);
+        CompletionStage<Void> secondCompletionStage = firstCompletionStage.thenApplyAsync(latchIdentity(latch2), executorB);
+        CompletionStage<Void> thirdCompletionStage = secondCompletionStage.thenApplyAsync(latchIdentity(latch3));
+        latch1.countDown();
+        latch2.countDown();
+        latch3.countDown();
+        thirdCompletionStage.toCompletableFuture().join();
+        assertHits(executorA, 1);
+        assertHits(executorB, 2);
+    }
+
+    @Test
+    public void testChainIsSingleObjectPerStage() {
+        CompletionStage<Integer> stage = Async.supplyAsync(() -> 0, executorA);
+        for (int i = 0; i < 10; i++)
+            stage = stage.thenApply(x -> x + 1);
+
+        assertTrue(stage instanceof SameExecutorCompletionStage);
+        assertSame(stage, stage.toCompletableFuture());
+        assertEquals(Integer.valueOf(10), stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testExceptionSemantics() {
+        CompletionStage<Integer> failed = Async.<Integer>supplyAsync(() -> {
+            throw new IllegalStateException("boom");
+        }, executorA).thenApply(x -> x + 1);
+
+        try {
+            failed.toCompletableFuture().join();
+            fail();
+        }
+        catch (CompletionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+
+        assertEquals(Integer.valueOf(-1), failed.exceptionally(t -> {
+            assertTrue(t instanceof CompletionException);
+            return -1;
+        }).toCompletableFuture().join());
+    }
+
     private Supplier<Void> latchSupplier(CountDownLatch latch) {
         return Unchecked.supplier(() -> {
             latch.await();
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Lukas Eder
+ */
+public class SeqFlowTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testToPublisherHonoursDemand() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Recorder<Integer> recorder = new Recorder<>();
+
+        Seq.range(0, 10).peek(i -> pulled.incrementAndGet()).onClose(closed::incrementAndGet)
+           .toPublisher(executor).subscribe(recorder);
+
+        recorder.subscription.request(3);
+        recorder.await(3);
+        Thread.sleep(20);
+        assertEquals(asList(0, 1, 2), recorder.items());
+        assertTrue(pulled.get() <= 4);
+        assertEquals(0, closed.get());
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(Seq.range(0, 10).toList(), recorder.items());
+        assertTrue(recorder.completed);
+        assertNull(recorder.error);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testToPublisherCompletesWhenExactlyAllRequested() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        Recorder<Integer> recorder = new Recorder<>();
+
+        Seq.range(0, 5).onClose(closed::incrementAndGet).toPublisher(executor).subscribe(recorder);
+        recorder.subscription.request(2);
+        recorder.await(2);
+        recorder.subscription.request(3);
+
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(Seq.range(0, 5).toList(), recorder.items());
+        assertTrue(recorder.completed);
+        assertNull(recorder.error);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void testToPublisherCancelAndError() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        Recorder<Integer> cancelled = new Recorder<>();
+
+        Seq.iterate(0, i -> i + 1).onClose(closed::incrementAndGet).toPublisher(executor).subscribe(cancelled);
+        cancelled.subscription.request(5);
+        cancelled.await(5);
+        cancelled.subscription.cancel();
+
+        for (int i = 0; i < 100 && closed.get() == 0; i++)
+            Thread.sleep(10);
+        assertEquals(1, closed.get());
+
+        Recorder<Integer> failing = new Recorder<>();
+        Seq.of(1, 2, 0).map(i -> 10 / i).toPublisher(executor).subscribe(failing);
+        failing.subscription.request(10);
+        assertTrue(failing.done.await(10, TimeUnit.SECONDS));
+        assertEquals(asList(10, 5), failing.items());
+        assertTrue(failing.error instanceof ArithmeticException);
+
+        Recorder<Integer> invalid = new Recorder<>();
+        Seq.of(1).toPublisher(executor).subscribe(invalid);
+        invalid.subscription.request(0);
+        assertTrue(invalid.done.await(10, TimeUnit.SECONDS));
+        assertTrue(invalid.error instanceof IllegalArgumentException);
+
+        Flow.Publisher<Integer> publisher = Seq.of(1).toPublisher(executor);
+        publisher.subscribe(new Recorder<>());
+        Recorder<Integer> second = new Recorder<>();
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFromPublisherPrefetch() {
+        AtomicLong outstanding = new AtomicLong();
+        AtomicLong maxOutstanding = new AtomicLong();
+        AtomicInteger closed = new AtomicInteger();
+
+        Flow.Publisher<Integer> source = Seq.range(0, 10_000).onClose(closed::incrementAndGet).toPublisher(executor);
+        Flow.Publisher<Integer> tracking = subscriber -> source.subscribe(new Flow.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        maxOutstanding.accumulateAndGet(outstanding.addAndGet(n), Math::max);
+                        s.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        s.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                outstanding.decrementAndGet();
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+
+        assertEquals(Seq.range(0, 10_000).toList(), Seq.fromPublisher(tracking, 16).toList());
+        assertTrue(maxOutstanding.get() <= 16);
+        assertEquals(1, closed.get());
+
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, 4)) {
+            Seq<String> seq = Seq.fromPublisher(publisher, 4);
+            executor.execute(() -> {
+
+                // The Seq subscribes lazily, and SubmissionPublisher drops items without subscribers
+                while (publisher.getNumberOfSubscribers() == 0)
+                    Thread.yield();
+
+                for (int i = 0; i < 100; i++)
+                    publisher.submit("s" + i);
+
+                publisher.close();
+            });
+
+            assertEquals(Seq.range(0, 100).map(i -> "s" + i).toList(), seq.toList());
+        }
+
+        Utils.assertThrows(IllegalArgumentException.class, () -> Seq.fromPublisher(source, 0));
+    }
+
+    @Test
+    public void testFromPublisherErrorAndClose() throws Exception {
+        Flow.Publisher<Integer> failing = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            int i;
+
+            @Override
+            public void request(long n) {
+                subscriber.onNext(i++);
+                subscriber.onError(new IOException("io"));
+            }
+
+            @Override
+            public void cancel() {}
+        });
+
+        List<Integer> seen = new ArrayList<>();
+        try {
+            Seq.fromPublisher(failing, 8).forEach(seen::add);
+            fail();
+        }
+        catch (UncheckedIOException expected) {
+            assertEquals("io", expected.getCause().getMessage());
+        }
+        assertEquals(asList(0), seen);
+
+        AtomicInteger closed = new AtomicInteger();
+        try (Seq<Integer> seq = Seq.fromPublisher(Seq.iterate(0, i -> i + 1).onClose(closed::incrementAndGet).toPublisher(executor), 8)) {
+            assertEquals(asList(0, 1, 2), seq.limit(3).toList());
+        }
+
+        for (int i = 0; i < 100 && closed.get() == 0; i++)
+            Thread.sleep(10);
+        assertEquals(1, closed.get());
+    }
+
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+        final List<T>        items = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done  = new CountDownLatch(1);
+        Flow.Subscription    subscription;
+        volatile boolean     completed;
+        volatile Throwable   error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+
+        List<T> items() {
+            synchronized (items) {
+                return new ArrayList<>(items);
+            }
+        }
+
+        void await(int count) throws InterruptedException {
+            for (int i = 0; i < 1000 && items.size() < count; i++)
+                Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Arrays.asList;
+import static org.jooq.lambda.tuple.Tuple.tuple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Lukas Eder
+ */
+public class SeqMetricsTest {
+
+    static class RecordingSink implements MetricsSink {
+        final List<Tuple3<String, Long, Long>> stages = new ArrayList<>();
+        final List<Tuple2<String, Long>> buffers = new ArrayList<>();
+
+        @Override
+        public void stage(String stage, long elements, long nanos) {
+            stages.add(tuple(stage, elements, nanos));
+        }
+
+        @Override
+        public void buffer(String buffer, long highWaterMark) {
+            buffers.add(tuple(buffer, highWaterMark));
+        }
+    }
+
+    @After
+    public void after() {
+        SeqMetrics.sink(null);
+    }
+
+    @Test
+    public void testInstrumented() {
+        RecordingSink sink = new RecordingSink();
+
+        assertEquals(asList(tuple(1L, 1L), tuple(2L, 2L)),
+            Seq.of(1L, 2L, 3L)
+               .instrumented("source", sink)
+               .innerJoin(Seq.of(1L, 2L), Objects::equals)
+               .instrumented("join", sink)
+               .toList());
+
+        assertEquals(2, sink.stages.size());
+        assertEquals(tuple("source", 3L), sink.stages.get(0).limit2());
+        assertEquals(tuple("join", 2L), sink.stages.get(1).limit2());
+        assertTrue(sink.stages.get(1).v3 >= sink.stages.get(0).v3);
+
+        // Reported once on close if not exhausted
+        sink.stages.clear();
+        try (Seq<Integer> s = Seq.of(1, 2, 3).instrumented("limit", sink)) {
+            assertEquals(asList(1), s.limit(1).toList());
+        }
+        assertEquals(1, sink.stages.size());
+        assertEquals(tuple("limit", 1L), sink.stages.get(0).limit2());
+    }
+
+    @Test
+    public void testInstrumentedWithoutSink() {
+        assertEquals(asList(1, 2, 3), Seq.of(1, 2, 3).instrumented("none").toList());
+
+        RecordingSink sink = new RecordingSink();
+        SeqMetrics.sink(sink);
+        assertEquals(asList(1, 2, 3), Seq.of(1, 2, 3).instrumented("global").toList());
+        assertEquals(tuple("global", 3L), sink.stages.get(0).limit2());
+    }
+
+    @Test
+    public void testBuffers() {
+        RecordingSink sink = new RecordingSink();
+
+        // Disabled
+        Seq.of(1, 2, 3).duplicate().v1.toList();
+        assertEquals(0, sink.buffers.size());
+
+        SeqMetrics.sink(sink);
+        Seq.of(1, 2, 3).duplicate().v1.toList();
+        assertEquals(asList(tuple("duplicate", 3L)), sink.buffers);
+
+        sink.buffers.clear();
+        Seq.of(1, 2, 3).innerJoin(Seq.of(1, 2), Objects::equals).toList();
+        assertEquals(asList(tuple("innerJoin", 2L)), sink.buffers);
+
+        sink.buffers.clear();
+        Seq.of(1, 2, 3, 4, 5).partition(i -> i % 2 == 0).v1.toList();
+        assertEquals(asList(tuple("partition", 3L)), sink.buffers);
+
+        sink.buffers.clear();
+        Seq.of(1, 2, 3, 4, 5).grouped(i -> i % 2).toList();
+        assertEquals(asList(tuple("grouped", 3L)), sink.buffers);
+
+        sink.buffers.clear();
+        Seq.of(1, 2, 3, 4, 5).window(i -> i % 2).map(w -> w.count()).toList();
+        assertEquals(asList(tuple("window", 3L)), sink.buffers);
+    }
+}
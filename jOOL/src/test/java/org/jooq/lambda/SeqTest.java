@@ -15,8 +15,12 @@
  */
 package org.jooq.lambda;
 
+import org.jooq.lambda.exception.BufferLimitExceededException;
 import org.jooq.lambda.exception.TooManyElementsException;
 import org.jooq.lambda.function.Function4;
+import org.jooq.lambda.tuple.MutableTuple2;
+import org.jooq.lambda.tuple.MutableTuple3;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
@@ -28,13 +32,17 @@ import org.jooq.lambda.tuple.Tuple8;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,15 +59,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -227,6 +238,46 @@ public class SeqTest {
         ), list);
     }
 
+    @Test
+    public void testGroupedBufferLimit() {
+        assertEquals(
+            asList(tuple(1, asList(1, 3, 5)), tuple(0, asList(2, 4, 6))),
+            Seq.of(1, 2, 3, 4, 5, 6).grouped(i -> i % 2, 3).map(t -> t.map2(s -> s.toList())).toList());
+        assertThrows(BufferLimitExceededException.class, () ->
+            Seq.of(1, 2, 3, 4, 5, 6).grouped(i -> i % 2, 2).map(t -> t.map2(s -> s.toList())).toList());
+        assertThrows(IllegalArgumentException.class, () -> Seq.of(1).grouped(i -> i, 0));
+
+        // Reading all classes concurrently never needs to buffer more than one element
+        List<Seq<Integer>> classes = Seq.of(1, 2, 3, 4, 5, 6).grouped(i -> i % 3, 1).map(Tuple2::v2).limit(3).toList();
+        assertEquals(
+            asList(1, 2, 3, 4, 5, 6),
+            Seq.zip(classes.get(0), classes.get(1), classes.get(2)).flatMap(t -> Seq.of(t.v1, t.v2, t.v3)).toList());
+    }
+
+    @Test
+    public void testGroupedClustered() {
+        assertEquals(asList(), Seq.<Integer>of().groupedClustered(i -> i % 2).toList());
+        assertEquals(
+            asList(tuple(1, asList(1, 3)), tuple(0, asList(2, 4)), tuple(1, asList(5))),
+            Seq.of(1, 3, 2, 4, 5).groupedClustered(i -> i % 2).map(t -> t.map2(s -> s.toList())).toList());
+        assertEquals(
+            asList(tuple(1, 4), tuple(0, 6), tuple(1, 5)),
+            Seq.of(1, 3, 2, 4, 5).groupedClustered(i -> i % 2, Collectors.summingInt(i -> i)).toList());
+        assertEquals(
+            asList(tuple(null, asList(1, 3)), tuple(0, asList(2))),
+            Seq.of(1, 3, 2).groupedClustered(i -> i % 2 == 0 ? 0 : null).map(t -> t.map2(s -> s.toList())).toList());
+
+        // Unread elements are skipped, and classes can't be read once the next class has been requested
+        Iterator<Tuple2<Integer, Seq<Integer>>> it = Seq.of(1, 3, 2, 4, 5).groupedClustered(i -> i % 2).iterator();
+        Tuple2<Integer, Seq<Integer>> t1 = it.next();
+        assertEquals(0, (int) it.next().v1);
+        assertEquals(asList(), t1.v2.toList());
+        assertEquals(tuple(1, asList(5)), it.next().map2(s -> s.toList()));
+        assertFalse(it.hasNext());
+
+        verifyIteratorValidity(5, Seq.of(1, 3, 2, 4, 5), seq -> seq.groupedClustered(i -> i % 2).flatMap(Tuple2::v2));
+    }
+
     @Test
     public void testGroupedThenMapThenToList() throws Exception {
         List<Tuple2<Integer, List<Integer>>> list =
@@ -483,6 +534,58 @@ public class SeqTest {
         assertEquals(asList("a:0", "b:1", "c:2"), Seq.of("a", "b", "c").zipWithIndex((s, i) -> s + ":" + i).toList());
     }
 
+    @Test
+    public void testZipWithIndexReusing() {
+        assertEquals(asList(), Seq.of().zipWithIndexReusing().map(MutableTuple2::toTuple).toList());
+        assertEquals(asList(tuple("a", 0L), tuple("b", 1L), tuple("c", 2L)), Seq.of("a", "b", "c").zipWithIndexReusing().map(MutableTuple2::toTuple).toList());
+
+        List<MutableTuple2<String, Long>> tuples = Seq.of("a", "b", "c").zipWithIndexReusing().toList();
+        assertEquals(3, tuples.size());
+        assertSame(tuples.get(0), tuples.get(2));
+        assertEquals(tuple("c", 2L), tuples.get(0).toTuple());
+    }
+
+    @Test
+    public void testZipWithLongIndex() {
+        assertEquals(asList(), Seq.of().zipWithLongIndex().toList());
+        assertEquals(
+            asList(new ObjLongTuple2<>("a", 0L), new ObjLongTuple2<>("b", 1L), new ObjLongTuple2<>("c", 2L)),
+            Seq.of("a", "b", "c").zipWithLongIndex().toList());
+        assertEquals(
+            Seq.of("a", "b", "c").zipWithIndex().toList(),
+            Seq.of("a", "b", "c").zipWithLongIndex().map(ObjLongTuple2::toTuple).toList());
+    }
+
+    @Test
+    public void testZipReusing() {
+        assertEquals(asList(), Seq.of(1, 2).zipReusing(Seq.of()).map(MutableTuple2::toTuple).toList());
+        assertEquals(asList(tuple(1, "a"), tuple(2, "b")), Seq.of(1, 2, 3).zipReusing(Seq.of("a", "b")).map(MutableTuple2::toTuple).toList());
+        assertEquals(asList(tuple(1, "a"), tuple(2, "b")), Seq.of(1, 2).zipReusing(asList("a", "b")).map(MutableTuple2::toTuple).toList());
+        assertEquals(asList("1a", "2b"), Seq.of(1, 2).zipReusing(Stream.of("a", "b")).map(t -> t.v1 + t.v2).toList());
+        assertEquals(
+            asList(tuple(1, "a", 'x'), tuple(2, "b", 'y')),
+            Seq.zipReusing(Seq.of(1, 2), Seq.of("a", "b"), Seq.of('x', 'y', 'z')).map(MutableTuple3::toTuple).toList());
+
+        AtomicBoolean closed = new AtomicBoolean();
+        Seq.of(1).zipReusing(Seq.of(2).onClose(() -> closed.set(true))).close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testCrossJoinReusing() {
+        assertEquals(asList(), Seq.of().crossJoinReusing(Seq.of(1, 2)).toList());
+        assertEquals(asList(), Seq.of("A", "B").crossJoinReusing(Seq.of()).toList());
+        assertEquals(
+            asList(tuple("A", 1), tuple("A", 2), tuple("B", 1), tuple("B", 2)),
+            Seq.of("A", "B").crossJoinReusing(Seq.of(1, 2)).map(MutableTuple2::toTuple).toList());
+        assertEquals(
+            asList(tuple("A", 1), tuple("A", 2), tuple("B", 1)),
+            Seq.of("A", "B").crossJoinReusing(asList(1, 2)).map(MutableTuple2::toTuple).limit(3).toList());
+        assertEquals(
+            Seq.of("A", "B", "C").crossJoin(Seq.of(1, 2, 3)).toList(),
+            Seq.of("A", "B", "C").crossJoinReusing(Stream.of(1, 2, 3)).map(MutableTuple2::toTuple).toList());
+    }
+
     @Test
     public void testDuplicate() {
         Supplier<Tuple2<Seq<Integer>, Seq<Integer>>> reset = () -> Seq.of(1, 2, 3).duplicate();
@@ -1305,6 +1408,20 @@ public class SeqTest {
         verifyIteratorValidity(6, s.get(), seq -> seq.partition(i -> i % 2 == 0).v2());
     }
 
+    @Test
+    public void testPartitionBufferLimit() {
+        Supplier<Seq<Integer>> s = () -> Seq.of(1, 2, 3, 4, 5, 6);
+
+        assertEquals(asList(1, 3, 5), s.get().partition(i -> i % 2 != 0, 3).v1.toList());
+        assertEquals(asList(1, 2, 3), s.get().partition(i -> i <= 3, 3).v1.toList());
+        assertThrows(BufferLimitExceededException.class, () -> s.get().partition(i -> i > 3, 2).v1.toList());
+        assertThrows(IllegalArgumentException.class, () -> s.get().partition(i -> true, 0));
+
+        // Alternating consumption never needs to buffer more than one element
+        Tuple2<Seq<Integer>, Seq<Integer>> t = s.get().partition(i -> i % 2 != 0, 1);
+        assertEquals(asList(1, 2, 3, 4, 5, 6), Seq.zip(t.v1, t.v2).flatMap(x -> Seq.of(x.v1, x.v2)).toList());
+    }
+
     @Test
     public void testSplitAt() {
         Supplier<Seq<Integer>> s = () -> Seq.of(1, 2, 3, 4, 5, 6);
@@ -1542,6 +1659,82 @@ public class SeqTest {
     @Test
     public void testReverse() {
         assertEquals(asList(3, 2, 1), Seq.of(1, 2, 3).reverse().toList());
+        assertEquals(asList(3, 2, 1), Seq.of(1, 2, 3).map(i -> i).reverse().toList());
+        assertEquals(asList(), Seq.of().reverse().toList());
+        assertEquals(asList(1, 2, 3), Seq.of(1, 2, 3).reverse().reverse().toList());
+        assertEquals(asList(4, 3), seq(new Integer[] { 1, 2, 3, 4, 5 }, 2, 4).reverse().toList());
+    }
+
+    @Test
+    public void testReverseLists() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3, 4));
+        assertEquals(asList(4, 3, 2, 1), seq(list).reverse().toList());
+        assertEquals(asList(1, 2, 3, 4), seq(list).reverse().reverse().toList());
+        assertEquals(asList(4, 3, 2, 1), seq(new LinkedList<>(list)).reverse().toList());
+        assertEquals(asList(4, 3, 2, 1), seq(new ArrayDeque<>(list)).reverse().toList());
+        assertEquals(asList(1, 2, 3, 4), seq(new ArrayDeque<>(list)).reverse().reverse().toList());
+        assertEquals(asList(3, 2), seq(list.subList(1, 3)).reverse().toList());
+
+        // The reversed Seq is lazy and doesn't copy the list
+        Seq<Integer> reversed = seq(list).reverse();
+        list.set(3, 40);
+        assertEquals(asList(40, 3, 2, 1), reversed.toList());
+    }
+
+    @Test
+    public void testReversePartiallyConsumed() {
+        Spliterator<Integer> s1 = Seq.of(1, 2, 3, 4).spliterator();
+        s1.tryAdvance(i -> {});
+        assertEquals(asList(4, 3, 2), seq(s1).reverse().toList());
+
+        Spliterator<Integer> s2 = seq(asList(1, 2, 3, 4)).spliterator();
+        s2.tryAdvance(i -> {});
+        assertEquals(asList(4, 3, 2), seq(s2).reverse().toList());
+
+        Spliterator<Integer> s3 = seq(new ArrayDeque<>(asList(1, 2, 3, 4))).spliterator();
+        s3.tryAdvance(i -> {});
+        assertEquals(asList(4, 3, 2), seq(s3).reverse().toList());
+
+        Spliterator<Integer> s4 = Seq.range(1, 5).spliterator();
+        s4.tryAdvance(i -> {});
+        assertEquals(asList(4, 3, 2), seq(s4).reverse().toList());
+
+        Spliterator<Integer> s5 = Seq.of(1, 2, 3, 4).reverse().spliterator();
+        s5.tryAdvance(i -> {});
+        assertEquals(asList(1, 2, 3), seq(s5).reverse().toList());
+    }
+
+    @Test
+    public void testReverseRange() {
+        assertEquals(asList(4, 3, 2, 1, 0), Seq.range(0, 5).reverse().toList());
+        assertEquals(asList(4, 2, 0), Seq.range(0, 5, 2).reverse().toList());
+        assertEquals(asList(4, 2, 0), Seq.range(0, 6, 2).reverse().toList());
+        assertEquals(asList(6, 4, 2, 0), Seq.rangeClosed(0, 6, 2).reverse().toList());
+        assertEquals(asList(4L, 2L, 0L), Seq.range(0L, 5L, 2L).reverse().toList());
+        assertEquals(asList((byte) 120, (byte) 110, (byte) 100), Seq.range((byte) 100, (byte) 127, 10).reverse().toList());
+        assertEquals(asList((byte) 100, (byte) 110, (byte) 120), Seq.range((byte) 100, (byte) 127, 10).toList());
+        assertEquals("ECA", Seq.rangeClosed('A', 'F', 2).reverse().toString());
+        assertEquals(asList(), Seq.range(0, 0).reverse().toList());
+
+        assertEquals(asList(Long.MAX_VALUE, Long.MAX_VALUE - 1), Seq.rangeClosed(Long.MAX_VALUE - 1, Long.MAX_VALUE).reverse().toList());
+        assertEquals(asList(Long.MAX_VALUE - 1), Seq.range(Long.MAX_VALUE - 1, Long.MAX_VALUE, 5L).toList());
+        assertEquals(asList(Long.MAX_VALUE, Long.MAX_VALUE - 1), Seq.rangeClosed(Long.MIN_VALUE, Long.MAX_VALUE).reverse().limit(2).toList());
+        assertEquals(asList(Integer.MAX_VALUE - 1, Integer.MAX_VALUE), Seq.rangeClosed(Integer.MAX_VALUE - 1, Integer.MAX_VALUE).toList());
+
+        assertEquals(3L, Seq.range(0, 5, 2).count());
+        assertEquals(asList(9_999_999, 9_999_998), Seq.range(0, 10_000_000).reverse().limit(2).toList());
+        assertEquals(49_995_000L, (long) Seq.range(0L, 10_000L).foldRight(0L, (t, u) -> t + u));
+        assertEquals(asList(0, 3, 5, 6), Seq.rangeClosed(1, 3).scanRight(0, (t, u) -> t + u).toList());
+    }
+
+    @Test
+    public void testReverseClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Seq<Integer> reversed = Seq.of(1, 2, 3).onClose(() -> closed.set(true)).reverse();
+        assertEquals(asList(3, 2, 1), reversed.toList());
+        assertFalse(closed.get());
+        reversed.close();
+        assertTrue(closed.get());
     }
 
     @Test
@@ -1647,6 +1840,82 @@ public class SeqTest {
         assertEquals(asList(1, "a", 2, "b", 3, null), Seq.of(1, "a", 2, "b", 3, null).cast(Serializable.class).toList());
     }
 
+    @Test
+    public void testAggregate() {
+        Supplier<Seq<Integer>> s = () -> Seq.of(5, 1, 4, 2, 3, 4, 1, 4);
+        Function<Integer, Integer> identity = i -> i;
+        Function<Integer, Integer> mod3 = i -> i % 3;
+
+        Tuple8<Long, Double, Optional<Integer>, Optional<Integer>, Optional<Integer>, Long, Optional<Integer>, Optional<Integer>> result =
+        s.get().aggregate(a -> a
+            .count()
+            .sumDouble(i -> i)
+            .median(identity)
+            .percentile(0.0, identity)
+            .percentile(1.0, identity)
+            .countDistinctBy(mod3)
+            .mode()
+            .max(identity)
+        );
+
+        assertEquals(tuple(
+            s.get().count(),
+            s.get().sumDouble(i -> i),
+            s.get().median(),
+            s.get().percentile(0.0),
+            s.get().percentile(1.0),
+            s.get().countDistinctBy(mod3),
+            s.get().mode(),
+            s.get().max()
+        ), result);
+
+        for (double p : new double[] { 0.1, 0.25, 0.5, 0.75, 0.9, 0.99 })
+            assertEquals(s.get().percentile(p), s.get().aggregate(a -> a.percentile(p, identity)).v1);
+
+        assertEquals(tuple(0L, Optional.empty(), 0L, 0),
+            Seq.<Integer>empty().aggregate(a -> a.count().median(identity).countDistinct().collect(Collectors.summingInt(i -> i))));
+
+        // Percentiles over the same function share one buffer and distinct counts one set
+        AtomicInteger sortedCalls = new AtomicInteger();
+        AtomicInteger distinctCalls = new AtomicInteger();
+        Function<Integer, Integer> sorted = i -> { sortedCalls.incrementAndGet(); return i; };
+        Function<Integer, Integer> distinct = i -> { distinctCalls.incrementAndGet(); return i % 3; };
+
+        assertEquals(tuple(Optional.of(3), Optional.of(4), Optional.of(5), 3L, 3L),
+            s.get().aggregate(a -> a
+                .median(sorted)
+                .percentile(0.75, sorted)
+                .percentile(0.99, sorted)
+                .countDistinctBy(distinct)
+                .countDistinctBy(distinct)
+            ));
+        assertEquals(8, sortedCalls.get());
+        assertEquals(8, distinctCalls.get());
+
+        assertThrows(IllegalArgumentException.class, () -> Seq.of(1).aggregate(a -> a.percentile(1.5, identity)));
+    }
+
+    @Test
+    public void testMapTry() {
+        List<Either<Integer>> list = Seq.of("1", "a", "3").mapTry(Integer::parseInt).toList();
+        assertEquals(3, list.size());
+        assertEquals(Either.success(1), list.get(0));
+        assertTrue(list.get(1).v2 instanceof NumberFormatException);
+        assertEquals(Either.success(3), list.get(2));
+
+        AtomicInteger pulled = new AtomicInteger();
+        List<Either<Integer>> failFast = Seq.of("1", "a", "3", "b")
+            .peek(s -> pulled.incrementAndGet())
+            .mapTry(Integer::parseInt, 1)
+            .toList();
+        assertEquals(2, failFast.size());
+        assertTrue(failFast.get(1).isFailure());
+        assertEquals(2, pulled.get());
+
+        assertEquals(4, Seq.of("1", "a", "3", "b").mapTry(Integer::parseInt, 2).count());
+        assertThrows(IllegalArgumentException.class, () -> Seq.of("1").mapTry(Integer::parseInt, 0));
+    }
+
     @Test
     public void testGroupBy() {
         Map<Integer, List<Integer>> map1 = Seq.of(1, 2, 3, 4).groupBy(i -> i % 2);
@@ -1700,6 +1969,30 @@ public class SeqTest {
         assertEquals("1, 2, 3", Seq.of(1, 2, 3).join(", "));
         assertEquals("^1|2|3$", Seq.of(1, 2, 3).join("|", "^", "$"));
     }
+
+    @Test
+    public void testJoinTo() {
+        StringBuilder sb = new StringBuilder("x");
+        assertSame(sb, Seq.of(1, null, 3).joinTo(sb, ", "));
+        assertEquals("x1, null, 3", sb.toString());
+        assertEquals("^1|2|3$", Seq.of(1, 2, 3).joinTo(new StringBuilder(), "|", "^", "$").toString());
+        assertEquals("^$", Seq.of().joinTo(new StringBuilder(), "|", "^", "$").toString());
+        assertEquals("^1|2|3$", Seq.of(1, 2, 3).toString("|", "^", "$"));
+        assertEquals(Seq.range(0, 10_000).map(String::valueOf).collect(Collectors.joining(",")), Seq.range(0, 10_000).toString(","));
+
+        assertThrows(UncheckedIOException.class, () -> Seq.of(1, 2, 3).joinTo(new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        }, ","));
+    }
     
     @Test
     public void testFormat() {
@@ -1713,6 +2006,53 @@ public class SeqTest {
         );
     }
 
+    @Test
+    public void testFormatAppendable() {
+        Supplier<Seq<Tuple2<Integer, String>>> s = () -> Seq.of(tuple(1, "a"), tuple(22, "bbb"), tuple(333, "cccc"));
+
+        StringBuilder sb = new StringBuilder();
+        s.get().format(sb);
+        assertEquals(s.get().format(), sb.toString());
+        assertEquals(
+            "+-----+------+\n" +
+            "|  v1 | v2   |\n" +
+            "+-----+------+\n" +
+            "|   1 | a    |\n" +
+            "|  22 | bbb  |\n" +
+            "| 333 | cccc |\n" +
+            "+-----+------+\n", sb.toString());
+
+        // Widths from the first row only, later rows overflow
+        sb.setLength(0);
+        s.get().format(sb, 1);
+        assertEquals(
+            "+----+----+\n" +
+            "| v1 | v2 |\n" +
+            "+----+----+\n" +
+            "|  1 | a  |\n" +
+            "| 22 | bbb |\n" +
+            "| 333 | cccc |\n" +
+            "+----+----+\n", sb.toString());
+
+        sb.setLength(0);
+        Seq.empty().format(sb, 10);
+        assertEquals("(empty seq)", sb.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> s.get().format(new StringBuilder(), 0));
+        assertThrows(UncheckedIOException.class, () -> s.get().format(new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        }));
+    }
+
     @Test
     public void testMap() {
         Map<Integer, String> map = new LinkedHashMap<>();
@@ -2518,6 +2858,36 @@ public class SeqTest {
         assertEquals(optional(4, 4, 6, 8, 4), Seq.of(1, 2, 4, 2, 3).window(i -> i % 2, naturalOrder(), -1, 1).map(Window::sum).toList());
         assertEquals(optional(null, null, 4, 2, 1), Seq.of(1, 2, 4, 2, 3).window(i -> i % 2, naturalOrder(), -3, -1).map(Window::sum).toList());
     }
+
+    @Test
+    public void testWindowFunctionColumns() {
+        assertEquals(asList(3, 7, 8, 9, 5), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.sumInt(i -> i)).toList());
+        assertEquals(asList(3L, 7L, 8L, 9L, 5L), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.sumLong(i -> i)).toList());
+        assertEquals(asList(3.0, 7.0, 8.0, 9.0, 5.0), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.sumDouble(i -> i)).toList());
+        assertEquals(asList(0.0, 1.0, 1.5), Seq.of(1, 2, 4).window(-3, -1).map(w -> w.avgInt(i -> i)).toList());
+        assertEquals(asList(1, 2, 0, 0, 1), Seq.of(1, 2, 4, 2, 3).window(i -> i % 2, naturalOrder(), -1, 1).map(w -> w.bitAndInt(i -> i)).toList());
+        assertEquals(optional(4, 8, 8, 8, 4), Seq.of(1, 2, 4, 2, 3).window(i -> i % 2).map(w -> w.sum(i -> i)).toList());
+        assertEquals(optional(-2, -4, -4, -4, -3), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.min(i -> -i)).toList());
+
+        // A function that is reused across frames is applied once per row, not
+        // once per row and frame, after the first frame
+        AtomicInteger calls = new AtomicInteger();
+        ToDoubleFunction<Integer> function = i -> {
+            calls.incrementAndGet();
+            return i;
+        };
+
+        assertEquals(asList(3.0, 7.0, 8.0, 9.0, 5.0), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.sumDouble(function)).toList());
+        assertEquals(2 + 5, calls.get());
+
+        // A new function instance per row is applied to its frame only
+        calls.set(0);
+        assertEquals(asList(3.0, 7.0, 8.0, 9.0, 5.0), Seq.of(1, 2, 4, 2, 3).window(-1, 1).map(w -> w.sumDouble(i -> {
+            calls.incrementAndGet();
+            return i;
+        })).toList());
+        assertEquals(2 + 3 + 3 + 3 + 2, calls.get());
+    }
     
     @Test
     public void testWindowFunctionMax() {
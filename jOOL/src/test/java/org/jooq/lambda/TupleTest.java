@@ -25,6 +25,7 @@ import static org.jooq.lambda.tuple.Tuple.range;
 import static org.jooq.lambda.tuple.Tuple.tuple;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
@@ -38,6 +39,12 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
+import org.jooq.lambda.tuple.DoubleDoubleTuple2;
+import org.jooq.lambda.tuple.IntIntTuple2;
+import org.jooq.lambda.tuple.LongLongTuple2;
+import org.jooq.lambda.tuple.MutableTuple16;
+import org.jooq.lambda.tuple.MutableTuple2;
+import org.jooq.lambda.tuple.ObjLongTuple2;
 import org.jooq.lambda.tuple.Tuple2;
 
 import org.jooq.lambda.tuple.Tuple5;
@@ -67,6 +74,58 @@ public class TupleTest {
         assertEquals(3, set.size());
     }
 
+    @Test
+    public void testMutableTuple() {
+        MutableTuple2<Integer, String> t = new MutableTuple2<>();
+        assertEquals(tuple(null, null), t.toTuple());
+        assertSame(t, t.set(1, "a"));
+        assertEquals(tuple(1, "a"), t.toTuple());
+        assertEquals(tuple(1, "a").hashCode(), t.hashCode());
+        assertEquals(tuple(1, "a").toString(), t.toString());
+        assertEquals(asList(1, "a"), t.toList());
+        assertEquals(2, t.degree());
+
+        MutableTuple2<Integer, String> copy = t.clone();
+        t.set(tuple(2, "b"));
+        assertEquals(new MutableTuple2<>(1, "a"), copy);
+        assertEquals(new MutableTuple2<>(2, "b"), t);
+        assertFalse(t.equals(tuple(2, "b")));
+
+        MutableTuple16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> t16 =
+            new MutableTuple16<>(tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+        t16.v16 = 0;
+        assertEquals(tuple(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 0), t16.toTuple());
+    }
+
+    @Test
+    public void testPrimitiveTuples() {
+        ObjLongTuple2<String> t1 = new ObjLongTuple2<>("a", 1L);
+        assertEquals(tuple("a", 1L), t1.toTuple());
+        assertEquals(t1, new ObjLongTuple2<>(tuple("a", 1L)));
+        assertEquals(tuple("a", 1L).hashCode(), t1.hashCode());
+        assertEquals(tuple("a", 1L).toString(), t1.toString());
+        assertEquals(asList("a", 1L), t1.toList());
+        assertTrue(t1.compareTo(new ObjLongTuple2<>("a", 2L)) < 0);
+        assertTrue(t1.compareTo(new ObjLongTuple2<>(null, 0L)) < 0);
+
+        IntIntTuple2 t2 = new IntIntTuple2(1, 2);
+        assertEquals(tuple(1, 2), t2.toTuple());
+        assertEquals(t2, new IntIntTuple2(tuple(1, 2)));
+        assertEquals(tuple(1, 2).hashCode(), t2.hashCode());
+        assertTrue(t2.compareTo(new IntIntTuple2(1, 3)) < 0);
+
+        LongLongTuple2 t3 = new LongLongTuple2(1L, 2L);
+        assertEquals(tuple(1L, 2L), t3.toTuple());
+        assertEquals(tuple(1L, 2L).hashCode(), t3.hashCode());
+        assertTrue(t3.compareTo(new LongLongTuple2(0L, 3L)) > 0);
+
+        DoubleDoubleTuple2 t4 = new DoubleDoubleTuple2(Double.NaN, -0.0);
+        assertEquals(tuple(Double.NaN, -0.0), t4.toTuple());
+        assertEquals(t4, new DoubleDoubleTuple2(Double.NaN, -0.0));
+        assertFalse(t4.equals(new DoubleDoubleTuple2(Double.NaN, 0.0)));
+        assertEquals(tuple(Double.NaN, -0.0).hashCode(), t4.hashCode());
+    }
+
     @Test
     public void testEqualsNull() {
         assertFalse(tuple(1).equals(null));
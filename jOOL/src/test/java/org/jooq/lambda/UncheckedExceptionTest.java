@@ -0,0 +1,150 @@
+/**
+ * Copyright (c), Data Geekery GmbH, contact@datageekery.com
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jooq.lambda;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jooq.lambda.fi.util.function.CheckedFunction;
+import org.junit.Test;
+
+/**
+ * @author Lukas Eder
+ */
+public class UncheckedExceptionTest {
+
+    static final UncheckedException NOT_FOUND = UncheckedException.sentinel("not found");
+
+    @Test
+    public void testStackless() {
+        Exception cause = new Exception("cause");
+        UncheckedException e = UncheckedException.stackless(cause);
+
+        assertSame(cause, e.getCause());
+        assertEquals(0, e.getStackTrace().length);
+        assertTrue(cause.getStackTrace().length > 0);
+        assertFalse(e.isSentinel());
+        assertTrue(new UncheckedException(cause).getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testSentinel() {
+        assertTrue(NOT_FOUND.isSentinel());
+        assertEquals("not found", NOT_FOUND.getMessage());
+        assertEquals(0, NOT_FOUND.getStackTrace().length);
+
+        NOT_FOUND.addSuppressed(new Exception());
+        assertEquals(0, NOT_FOUND.getSuppressed().length);
+
+        Either<Object> failure = Either.failure(NOT_FOUND);
+        assertSame(failure, Either.failure(NOT_FOUND));
+        assertSame(NOT_FOUND, failure.v2);
+        assertTrue(failure.isFailure());
+
+        Function<String, Either<Integer>> lookup = Wrap.function(s -> {
+            throw NOT_FOUND;
+        });
+        assertSame(failure, lookup.apply("a"));
+        assertSame(failure, lookup.apply("b"));
+    }
+
+    @Test
+    public void testThrowUncheckedStackless() {
+        Function<String, Integer> f = Unchecked.function(s -> {
+            throw new Exception(s);
+        }, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION);
+
+        try {
+            f.apply("x");
+            fail();
+        }
+        catch (UncheckedException e) {
+            assertEquals("x", e.getCause().getMessage());
+            assertEquals(0, e.getStackTrace().length);
+        }
+
+        Function<String, Integer> io = Unchecked.function(s -> {
+            throw new IOException(s);
+        }, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION);
+
+        try {
+            io.apply("x");
+            fail();
+        }
+        catch (UncheckedIOException e) {
+            assertEquals("x", e.getCause().getMessage());
+            assertEquals(0, e.getStackTrace().length);
+        }
+
+        // Unchecked exceptions are never re-wrapped
+        Function<String, Integer> notFound = Unchecked.function(s -> {
+            throw NOT_FOUND;
+        }, Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION);
+
+        try {
+            notFound.apply("x");
+            fail();
+        }
+        catch (UncheckedException e) {
+            assertSame(NOT_FOUND, e);
+        }
+    }
+
+    @Test
+    public void testFailureHeavyPipeline() {
+        CheckedFunction<String, Integer> parse = s -> {
+            if (s.isEmpty())
+                throw new Exception("empty");
+
+            return s.length();
+        };
+
+        assertEquals(50, failures(Unchecked.THROWABLE_TO_RUNTIME_EXCEPTION, parse, false));
+        assertEquals(50, failures(Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION, parse, true));
+        assertEquals(50, failures(Unchecked.THROWABLE_TO_STACKLESS_RUNTIME_EXCEPTION, s -> {
+            if (s.isEmpty())
+                throw NOT_FOUND;
+
+            return s.length();
+        }, true));
+    }
+
+    private static long failures(Consumer<Throwable> handler, CheckedFunction<String, Integer> parse, boolean stackless) {
+        Function<String, Integer> function = Unchecked.function(parse, handler);
+
+        return Seq.range(0, 100)
+            .map(i -> i % 2 == 0 ? "" : "abc")
+            .map(s -> {
+                try {
+                    return function.apply(s);
+                }
+                catch (RuntimeException e) {
+                    assertEquals(stackless, e.getStackTrace().length == 0);
+                    return -1;
+                }
+            })
+            .filter(i -> i < 0)
+            .count();
+    }
+}
@@ -8,12 +8,21 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -852,6 +861,267 @@ public class WrapTest {
   }
 
 
+  @Test public void logWarnThrottled () {
+    List<String> logged = new ArrayList<>();
+    LambdaLogFacade capture = new LambdaLogFacade(WrapTest.class) {
+      @Override public void warn (String msg, Throwable t) {
+        logged.add(msg);
+      }
+    };
+    long[] nanos = {0};
+    LambdaLogFacade.LambdaLogFacadeThrottled throttled =
+        new LambdaLogFacade.LambdaLogFacadeThrottled(capture, 2, 10_000_000_000L, () -> nanos[0]);
+    AtomicInteger formatted = new AtomicInteger();
+    Consumer<Supplier<String>> hotLoop = msg -> throttled.warn(msg, new IOException("same site"));// one call site
+
+    for (int i = 0; i < 100; i++) {
+      hotLoop.accept(() -> "hot loop "+formatted.incrementAndGet());
+    }
+    assertEquals(2, formatted.get());// suppressed messages are never formatted
+    assertEquals(2, logged.size());
+
+    // other signature has its own bucket
+    throttled.warn("other", new IllegalStateException());
+    assertEquals(3, logged.size());
+
+    // refill: 2 permits per second
+    nanos[0] = 500_000_000L;
+    hotLoop.accept(() -> "refilled");
+    hotLoop.accept(() -> "suppressed");
+    assertEquals("refilled", logged.get(3));
+    assertEquals(4, logged.size());
+
+    // summary
+    nanos[0] = 10_000_000_000L;
+    logged.clear();
+    throttled.warn("other", new IllegalStateException());
+    assertEquals(2, logged.size());
+    assertEquals("other", logged.get(0));
+    assertTrue(logged.get(1), logged.get(1).startsWith("Suppressed 99 warning(s): java.io.IOException at "));
+
+    throttled.flush();
+    assertEquals(2, logged.size());
+
+    // signatures beyond MAX_CALL_SITES share one bucket
+    throttled.callSites.clear();
+    for (int i = 0; i < LambdaLogFacade.LambdaLogFacadeThrottled.MAX_CALL_SITES + 10; i++) {
+      LambdaLogFacade.LambdaLogFacadeThrottled.Signature site =
+          new LambdaLogFacade.LambdaLogFacadeThrottled.Signature(IOException.class, WrapTest.class, "m", i, null);
+      throttled.tryAcquire(site);
+      throttled.tryAcquire(site);
+      throttled.tryAcquire(site);
+    }
+    assertEquals(LambdaLogFacade.LambdaLogFacadeThrottled.MAX_CALL_SITES, throttled.callSites.size());
+    logged.clear();
+    throttled.flush();
+    assertEquals(LambdaLogFacade.LambdaLogFacadeThrottled.MAX_CALL_SITES + 1, logged.size());
+    assertEquals("Suppressed 28 warning(s): other signatures", logged.get(logged.size() - 1));
+
+    assertTrue(Wrap.P1_LOG_WARN_THROTTLED_TRUE.test("x", new IOException("throttled")));
+    assertFalse(Wrap.P2_LOG_WARN_THROTTLED_FALSE.test("x", "y", new IOException("throttled")));
+    Wrap.LOG_WARN_THROTTLED.accept(new IOException("throttled"));
+    Wrap.logWarnThrottled(1, 1000).accept(new IOException("throttled"));
+  }
+
+  @Test public void logWarnThrottledCallSites () throws Exception {
+    List<String> logged = java.util.Collections.synchronizedList(new ArrayList<>());
+    LambdaLogFacade capture = new LambdaLogFacade(WrapTest.class) {
+      @Override public void warn (String msg, Throwable t) {
+        logged.add(msg);
+      }
+    };
+    LambdaLogFacade.LambdaLogFacadeThrottled throttled =
+        new LambdaLogFacade.LambdaLogFacadeThrottled(capture, 1, TimeUnit.MILLISECONDS.toNanos(50), System::nanoTime);
+    Function<String,Throwable> parse = Wrap.function((String s) -> Integer.parseInt(s)).andThen(e -> e.v2);
+
+    // the same library throw site (Integer.parseInt) from two call sites: two buckets
+    for (int i = 0; i < 5; i++) {
+      throttled.warn("C_LOG_WARN", parse.apply("x"));
+    }
+    for (int i = 0; i < 5; i++) {
+      throttled.warn("C_LOG_WARN", parse.apply("y"));
+    }
+    assertEquals(2, throttled.callSites.size());
+    assertEquals(2, logged.size());
+
+    // the summary of the burst is logged without a further warning
+    for (int i = 0; i < 1000 && logged.size() < 4; i++) {
+      Thread.sleep(5);
+    }
+    assertEquals(4, logged.size());
+    for (String summary : logged.subList(2, 4)) {
+      assertTrue(summary, summary.startsWith("Suppressed 4 warning(s): java.lang.NumberFormatException at "));
+      assertTrue(summary, summary.contains("WrapTest.logWarnThrottledCallSites(WrapTest.java:"));
+    }
+  }
+
+
+  @Test public void logWarnAsync () throws Exception {
+    assertEquals("a 1, b null {}", LambdaLogFacade.format("a {}, b {} {}", 2, 1, null, null));
+    assertEquals("no args", LambdaLogFacade.format("no args", 3, 1, 2, 3));
+
+    List<String> logged = java.util.Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch slowIo = new CountDownLatch(1);
+    CountDownLatch emitting = new CountDownLatch(1);
+    LambdaLogFacade capture = new LambdaLogFacade(WrapTest.class) {
+      @Override public void warn (String msg, Throwable t) {
+        emitting.countDown();
+        try {
+          slowIo.await();
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        logged.add(msg);
+      }
+    };
+    LambdaLogFacade.LambdaLogFacadeAsync async = (LambdaLogFacade.LambdaLogFacadeAsync) capture.async(3);
+    assertEquals(3, async.mask);// capacity 4
+
+    AtomicInteger formatted = new AtomicInteger();
+    Object arg = new Object() {
+      @Override public String toString () {
+        return "arg"+formatted.incrementAndGet();
+      }
+    };
+    async.warn("first {}", arg, null);
+    assertTrue(emitting.await(10, TimeUnit.SECONDS));// drain thread took the first record and hangs in the slow I/O
+    for (int i = 0; i < 10; i++) {
+      async.warn("{} and {}", arg, i, null);// never blocks
+    }
+    assertEquals(5, formatted.get());// mutable arguments are formatted by the caller, but not those of dropped records
+    assertEquals(6, async.dropped.get());
+
+    slowIo.countDown();
+    assertTrue(async.flush(10_000));
+    assertEquals(5, formatted.get());
+    assertEquals("first arg1", logged.get(0));
+    assertEquals("arg2 and 0", logged.get(1));
+    assertEquals("arg5 and 3", logged.get(4));
+
+    // arguments that may change are formatted when warn() is called
+    StringBuilder mutable = new StringBuilder("before");
+    async.warn("mutable {}", mutable, null);
+    mutable.setLength(0);
+    mutable.append("after");
+
+    async.warn(() -> "supplier", new IOException());
+    assertTrue(async.flush(10_000));
+    for (int i = 0; i < 1000 && logged.size() < 8; i++) {
+      Thread.sleep(5);
+    }
+    assertTrue(logged.toString(), logged.contains("Dropped 6 warning(s): async log buffer is full"));
+    assertTrue(logged.contains("supplier"));
+    assertTrue(logged.contains("mutable before"));
+
+    // all async loggers share one drain thread, which parks (without timeout) when idle
+    LambdaLogFacade second = capture.async(2);
+    second.warn("second", null);
+    assertTrue(((LambdaLogFacade.LambdaLogFacadeAsync) second).flush(10_000));
+    assertTrue(logged.contains("second"));
+    for (int i = 0; i < 1000 && LambdaLogFacade.Drainer.thread.getState() != Thread.State.WAITING; i++) {
+      Thread.sleep(5);
+    }
+    assertEquals(Thread.State.WAITING, LambdaLogFacade.Drainer.thread.getState());
+  }
+
+
+  @Test public void retrying () throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Function<Integer,Either<Integer>> flaky = Wrap.retrying((Integer v) -> {
+      if (calls.incrementAndGet() % 3 != 0) {
+        throw new IOException("flaky "+calls);
+      }
+      return v * 10;
+    }, RetryPolicy.of(3, Duration.ofMillis(1), Duration.ofMillis(5)));
+
+    assertEquals(Either.success(10), flaky.apply(1));
+    assertEquals(3, calls.get());
+
+    Either<Integer> e = Wrap.<Integer,Integer>retrying((Integer v) -> {
+      calls.incrementAndGet();
+      throw new IOException("always");
+    }, RetryPolicy.immediate(4)).apply(1);
+    assertEquals("always", e.v2.getMessage());
+    assertEquals(7, calls.get());
+
+    // not retried
+    e = Wrap.<Integer,Integer>retrying((Integer v) -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException("fatal");
+    }, RetryPolicy.immediate(4).retryOn(t -> t instanceof IOException)).apply(1);
+    assertTrue(e.v2 instanceof IllegalStateException);
+    assertEquals(8, calls.get());
+
+    assertEquals("x", Wrap.retrying(() -> "x", RetryPolicy.immediate(1)).get().call());
+
+    RetryPolicy backoff = RetryPolicy.of(10, Duration.ofMillis(100), Duration.ofMillis(300));
+    for (int retry = 1; retry < 10; retry++) {
+      long delay = backoff.delayNanos(retry);
+      assertTrue(delay >= 0 && delay <= Math.min(300, 100 << (retry - 1)) * 1_000_000L);
+    }
+  }
+
+  @Test public void circuitBreaker () {
+    long[] nanos = {0};
+    CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 2, 1000, () -> nanos[0]);
+    AtomicInteger calls = new AtomicInteger();
+    Function<Boolean,Either<String>> service = Wrap.circuitBreaker((Boolean fail) -> {
+      calls.incrementAndGet();
+      if (fail) {
+        throw new IOException("down");
+      }
+      return "up";
+    }, breaker);
+
+    assertEquals(Either.success("up"), service.apply(false));
+    assertEquals(Either.success("up"), service.apply(false));
+    assertTrue(service.apply(true).isFailure());
+    assertFalse(breaker.isOpen());// 1 of 3
+    assertTrue(service.apply(true).isFailure());
+    assertTrue(breaker.isOpen());// 2 of 4
+
+    assertSame(breaker.rejected(), service.apply(false).v2);
+    assertEquals(4, calls.get());
+
+    // half-open: a failed trial opens the breaker again
+    nanos[0] = 1000;
+    assertEquals("down", service.apply(true).v2.getMessage());
+    assertSame(breaker.rejected(), service.apply(false).v2);
+
+    // a successful trial closes it
+    nanos[0] = 2000;
+    assertEquals(Either.success("up"), service.apply(false));
+    assertFalse(breaker.isOpen());
+    assertTrue(service.apply(true).isFailure());
+    assertFalse(breaker.isOpen());// window was reset
+    assertEquals(7, calls.get());
+  }
+
+  @Test public void bulkhead () throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SafeCallable<Either<String>> slow = Wrap.bulkhead(() -> {
+      entered.countDown();
+      release.await();
+      return "done";
+    }, 1);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Either<String>> first = executor.submit((Callable<Either<String>>) slow);
+      entered.await();
+      assertTrue(slow.call().v2 instanceof RejectedExecutionException);
+      release.countDown();
+      assertEquals(Either.success("done"), first.get());
+      assertEquals(Either.success("done"), slow.call());
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(Either.success(2), Wrap.bulkhead((Integer v) -> v * 2, 1).apply(1));
+  }
+
+
   static <T> T divZero () {
     return Wrap.castUnsafe(1/0);
   }